@@ -0,0 +1,124 @@
+// bench/EventQueryBenchmark.java
+package com.example.eventplanner.bench;
+
+import com.example.eventplanner.domain.Notification;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.service.EventService;
+import com.example.eventplanner.service.NotificationService;
+import com.example.eventplanner.service.PlannerStatsCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The read paths behind the planner and admin pages, through the services the controllers call.
+ *
+ * Each invocation moves to the next planner so per-planner caches see a realistic mix; the
+ * {@code Miss} variants evict first to time the query the cache fronts. Throughput plus
+ * sampled latency (p50/p99 in the report); add {@code -prof gc} for allocation per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EventQueryBenchmark {
+
+    private static final Pageable ADMIN_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @State(Scope.Thread)
+    public static class Planners {
+        private List<Staff> all;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void load(SeededDatabase db) {
+            all = db.planners;
+        }
+
+        Staff next() {
+            Staff s = all.get(next);
+            next = (next + 1) % all.size();
+            return s;
+        }
+    }
+
+    @Benchmark
+    public Map<String, Long> statsFor(SeededDatabase db, Planners p) {
+        return db.bean(EventService.class).statsFor(p.next());
+    }
+
+    @Benchmark
+    public Map<String, Long> statsForMiss(SeededDatabase db, Planners p) {
+        Staff planner = p.next();
+        db.bean(PlannerStatsCache.class).evict(planner.getId());
+        return db.bean(EventService.class).statsFor(planner);
+    }
+
+    @Benchmark
+    public Page<EventListItem> findByStatusPending(SeededDatabase db) {
+        return db.bean(EventService.class).findByStatus(EventStatus.PENDING, ADMIN_PAGE);
+    }
+
+    @Benchmark
+    public Page<EventListItem> findByStatusPublished(SeededDatabase db) {
+        return db.bean(EventService.class).findByStatus(EventStatus.PUBLISHED, ADMIN_PAGE);
+    }
+
+    @Benchmark
+    public int countByStaffId(SeededDatabase db, Planners p) {
+        return db.bean(EventService.class).countByStaffId(p.next().getId());
+    }
+
+    /** Admin "All Events" table with every filter of the specification chain set. */
+    @Benchmark
+    public Page<EventListItem> adminFilterAll(SeededDatabase db, Planners p) {
+        LocalDate today = LocalDate.now();
+        return db.bean(EventService.class).search(EventStatus.PUBLISHED, EventCategory.values()[0],
+                p.next().getId(), today.minusDays(30), today.plusDays(90), ADMIN_PAGE);
+    }
+
+    /** Admin "All Events" table with only a status filter: the widest page the filter serves. */
+    @Benchmark
+    public Page<EventListItem> adminFilterStatus(SeededDatabase db) {
+        return db.bean(EventService.class).search(EventStatus.PUBLISHED, null, null, null, null, ADMIN_PAGE);
+    }
+
+    @Benchmark
+    public Page<EventListItem> adminSearch(SeededDatabase db) {
+        return db.bean(EventService.class).searchAll("seeded hall", null, null, null, null, null, ADMIN_PAGE);
+    }
+
+    /** Planner dashboard "recent events". */
+    @Benchmark
+    public List<EventListItem> plannerRecent(SeededDatabase db, Planners p) {
+        return db.bean(EventRepository.class).findListItemsByPlanner(p.next(), PageRequest.of(0, 10));
+    }
+
+    /** Planner "My Events" full list. */
+    @Benchmark
+    public List<EventListItem> plannerAll(SeededDatabase db, Planners p) {
+        return db.bean(EventRepository.class).findListItemsByPlanner(p.next(), Pageable.unpaged());
+    }
+
+    @Benchmark
+    public long unreadCount(SeededDatabase db, Planners p) {
+        return db.bean(NotificationService.class).unreadCount(p.next());
+    }
+
+    @Benchmark
+    public List<Notification> latestNotifications(SeededDatabase db, Planners p) {
+        return db.bean(NotificationService.class).latestFor(p.next());
+    }
+}
@@ -0,0 +1,84 @@
+// bench/PageModelBenchmark.java
+package com.example.eventplanner.bench;
+
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.web.ConcurrentModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Planner pages built through {@link ConcurrentModel}, serial ({@code parallel=false}, every
+ * fork inline) against parallel, on the same seeded database. The request goes through the
+ * whole MVC and security chain; views are not rendered (Thymeleaf is off in the bench profile).
+ *
+ * Read p50/p99 from the {@code SampleTime} percentiles. Run with {@code -t 8} (or more) as well
+ * as single-threaded: the fork cap only shows under concurrent requests.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PageModelBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Pages {
+        @Param({"false", "true"})
+        public boolean parallel;
+
+        MockMvc mvc;
+        List<Staff> planners;
+        List<Long> firstEventIds;
+
+        @Setup(Level.Trial)
+        public void setUp(SeededDatabase db) {
+            ReflectionTestUtils.setField(db.bean(ConcurrentModel.class), "parallel", parallel);
+            mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) db.context)
+                    .apply(springSecurity())
+                    .build();
+            planners = db.planners;
+            EventRepository events = db.bean(EventRepository.class);
+            firstEventIds = planners.stream()
+                    .map(p -> events.findListItemsByPlanner(p, PageRequest.of(0, 1)).get(0).getId())
+                    .toList();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance(int size) {
+            int i = next;
+            next = (next + 1) % size;
+            return i;
+        }
+    }
+
+    @Benchmark
+    public MvcResult plannerEvents(Pages pages, Cursor cursor) throws Exception {
+        Staff planner = pages.planners.get(cursor.advance(pages.planners.size()));
+        return pages.mvc.perform(get("/planner/events").with(user(planner.getEmail()).roles("PLANNER"))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult plannerEventView(Pages pages, Cursor cursor) throws Exception {
+        int i = cursor.advance(pages.planners.size());
+        Staff planner = pages.planners.get(i);
+        return pages.mvc.perform(get("/planner/event/{id}", pages.firstEventIds.get(i))
+                .with(user(planner.getEmail()).roles("PLANNER"))).andReturn();
+    }
+}
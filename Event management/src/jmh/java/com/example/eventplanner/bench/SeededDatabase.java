@@ -0,0 +1,93 @@
+// bench/SeededDatabase.java
+package com.example.eventplanner.bench;
+
+import com.example.eventplanner.EventPlannerApplication;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.repo.StaffRepository;
+import com.example.eventplanner.service.EventSearchIndex;
+import com.example.eventplanner.service.PlannerDashboardService;
+import com.example.eventplanner.service.VenueConflictIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * The application booted against an embedded H2 database seeded with {@code events} rows.
+ *
+ * Rows are generated in the database with {@code INSERT ... SELECT FROM SYSTEM_RANGE}, so
+ * seeding a million events takes seconds and does not go through JPA. Every planner owns
+ * {@link #EVENTS_PER_PLANNER} events spread over all statuses and categories and has
+ * {@link #NOTIFICATIONS_PER_PLANNER} notifications. One context per parameter value, shared
+ * by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    static final int EVENTS_PER_PLANNER = 250;
+    static final int NOTIFICATIONS_PER_PLANNER = 40;
+
+    @Param({"10000", "100000", "1000000"})
+    public int events;
+
+    ConfigurableApplicationContext context;
+    List<Staff> planners;
+
+    @Setup(Level.Trial)
+    public void boot() {
+        context = new SpringApplicationBuilder(EventPlannerApplication.class)
+                .profiles("bench")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(EventSearchIndex.class).rebuild();
+        context.getBean(VenueConflictIndex.class).rebuild();
+        context.getBean(PlannerDashboardService.class).rebuildAll();
+        planners = context.getBean(StaffRepository.class).findAll().stream()
+                .filter(s -> s.getEmail().startsWith("planner"))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        int plannerCount = Math.max(1, events / EVENTS_PER_PLANNER);
+        jdbc.update("insert into staff (email, name, password_hash, role, active, version) "
+                + "values ('admin@bench.test', 'admin', '{noop}secret', 'ADMIN', true, 0)");
+        jdbc.update("insert into staff (email, name, password_hash, role, active, version) "
+                + "select 'planner' || x || '@bench.test', 'planner' || x, '{noop}secret', 'PLANNER', true, 0 "
+                + "from system_range(1, ?)", plannerCount);
+        Long firstPlanner = jdbc.queryForObject("select min(id) from staff where role = 'PLANNER'", Long.class);
+
+        jdbc.update("insert into events (planner_id, title, event_date, venue, category, description, status, created_at, version) "
+                + "select ? + mod(x, ?), 'Event ' || x, dateadd('DAY', mod(x, 365) - 90, current_date), "
+                + "'Hall ' || mod(x, 40), " + cycle(EventCategory.values()) + ", "
+                + "'Seeded event ' || x || ' with a description long enough to look like a real one.', "
+                + cycle(EventStatus.values()) + ", dateadd('MINUTE', -x, current_timestamp), 0 "
+                + "from system_range(1, ?)", firstPlanner, plannerCount, events);
+
+        jdbc.update("insert into notifications (recipient_id, title, message, type, read_flag, created_at, version) "
+                + "select ? + mod(x, ?), 'Notice ' || x, 'Message ' || x, 'INFO', mod(x, 3) = 0, "
+                + "dateadd('MINUTE', -x, current_timestamp), 0 from system_range(1, ?)",
+                firstPlanner, plannerCount, plannerCount * NOTIFICATIONS_PER_PLANNER);
+    }
+
+    /** SQL expression cycling through the enum names by row number. */
+    private static String cycle(Enum<?>[] values) {
+        StringBuilder sql = new StringBuilder("case mod(x, ").append(values.length).append(')');
+        for (int i = 0; i < values.length; i++) {
+            sql.append(" when ").append(i).append(" then '").append(values[i].name()).append('\'');
+        }
+        return sql.append(" end").toString();
+    }
+}
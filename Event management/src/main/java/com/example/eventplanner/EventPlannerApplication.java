@@ -3,11 +3,18 @@ package com.example.eventplanner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class EventPlannerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(EventPlannerApplication.class, args);
+        SpringApplication app = new SpringApplication(EventPlannerApplication.class);
+        // Lowest precedence: application properties and the environment override these
+        app.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,prometheus",
+                "management.metrics.distribution.percentiles-histogram.http.server.requests", "true"));
+        app.run(args);
     }
 
 }
@@ -0,0 +1,66 @@
+// config/BootstrapAccounts.java
+package com.example.eventplanner.config;
+
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.Role;
+import com.example.eventplanner.repo.StaffRepository;
+import com.example.eventplanner.service.StaffService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Staff rows created on startup, so a fresh database always has someone who can log in.
+ *
+ * <ul>
+ *   <li>{@code app.bootstrap-admin.email} / {@code .password}: an ADMIN, created only while
+ *       the staff table has no ADMIN at all.</li>
+ *   <li>Demo logins ({@code planner@demo.com} / {@code planner123}, {@code admin@demo.com} /
+ *       {@code admin123}), created when missing unless {@code app.demo-accounts.enabled=false}.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BootstrapAccounts {
+
+    private final StaffService staffService;
+    private final StaffRepository staff;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.demo-accounts.enabled:true}")
+    private boolean demoAccounts;
+
+    @Value("${app.bootstrap-admin.email:}")
+    private String adminEmail;
+
+    @Value("${app.bootstrap-admin.password:}")
+    private String adminPassword;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissing() {
+        if (!adminEmail.isBlank() && !adminPassword.isBlank() && !staff.existsByRole(Role.ADMIN)) {
+            create(adminEmail.trim(), "Administrator", adminPassword, Role.ADMIN);
+        }
+        if (demoAccounts) {
+            create("planner@demo.com", "Event Planner", "planner123", Role.PLANNER);
+            create("admin@demo.com", "Administrator", "admin123", Role.ADMIN);
+        }
+    }
+
+    private void create(String email, String name, String password, Role role) {
+        if (staffService.findCachedByEmail(email).isPresent()) return;
+        Staff s = new Staff();
+        s.setEmail(email);
+        s.setName(name);
+        s.setPasswordHash(passwordEncoder.encode(password));
+        s.setRole(role);
+        s.setActive(true);
+        staffService.save(s);
+        log.info("Created {} account {}", role, email);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.eventplanner.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a slow {@link PasswordEncoder} (BCrypt) and remembers recent successful matches
+ * for a short time, so a burst of logins by the same users pays the hash cost once.
+ *
+ * Only an HMAC of (stored hash, raw password) under a per-process random key is kept,
+ * never the password. Entries are keyed by the stored hash, so changing the password
+ * (new hash) bypasses them; they expire after {@code ttlMillis} and the map is bounded.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private record Verified(byte[] digest, long expiresAt) {}
+
+    private final PasswordEncoder delegate;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final byte[] key = new byte[32];
+    private final ConcurrentHashMap<String, Verified> verified = new ConcurrentHashMap<>();
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, long ttlMillis, int maxEntries) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        new SecureRandom().nextBytes(key);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) return delegate.matches(rawPassword, encodedPassword);
+        long now = System.currentTimeMillis();
+        byte[] digest = digest(rawPassword, encodedPassword);
+        Verified v = verified.get(encodedPassword);
+        if (v != null && v.expiresAt() > now && MessageDigest.isEqual(v.digest(), digest)) return true;
+
+        boolean ok = delegate.matches(rawPassword, encodedPassword);
+        if (ok) {
+            if (verified.size() >= maxEntries) {
+                verified.values().removeIf(x -> x.expiresAt() <= now);
+                if (verified.size() >= maxEntries) verified.clear();
+            }
+            verified.put(encodedPassword, new Verified(digest, now + ttlMillis));
+        }
+        return ok;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private byte[] digest(CharSequence raw, String encoded) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            mac.update(encoded.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(raw.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
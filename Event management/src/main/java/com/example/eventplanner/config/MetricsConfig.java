@@ -0,0 +1,49 @@
+// config/MetricsConfig.java
+package com.example.eventplanner.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Micrometer wiring (scraped at {@code /actuator/prometheus}): statement counting on the pool,
+ * {@code @Timed} services, Hibernate statistics and slow-query logging. Request latency is
+ * Boot's {@code http.server.requests}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ds && !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(ds) : bean;
+            }
+        };
+    }
+
+    // Applies @Timed on service classes (EventService, NotificationService) as service.method
+    @Bean
+    TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // Statistics cost a little on every session, so they are opt-in (app.metrics.hibernate-statistics);
+    // when on, Boot binds them to the registry through Micrometer's HibernateMetrics (hibernate.* meters)
+    @Bean
+    HibernatePropertiesCustomizer hibernateStatistics(@Value("${app.metrics.hibernate-statistics:false}") boolean statistics,
+                                                      @Value("${app.metrics.slow-query-ms:200}") long slowQueryMs) {
+        return props -> {
+            props.put("hibernate.generate_statistics", String.valueOf(statistics));
+            props.put("hibernate.log_slow_query", String.valueOf(slowQueryMs));   // logged by org.hibernate.SQL_SLOW
+        };
+    }
+}
@@ -1,43 +1,48 @@
 package com.example.eventplanner.config;
 
+import com.example.eventplanner.repo.StaffRepository;
+import com.example.eventplanner.service.StaffService;
+import com.example.eventplanner.service.StaffUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Configuration
 public class SecurityConfig {
 
+    // BCrypt for new hashes, still understands {noop}/legacy ids (upgraded on login);
+    // recent successful matches are remembered briefly to absorb login bursts
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${app.security.verified-cache.ttl-seconds:60}") long ttlSeconds,
+                                    @Value("${app.security.verified-cache.max-size:10000}") int maxSize) {
+        return new CachingPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                ttlSeconds * 1000, maxSize);
     }
 
-    // Demo users
+    // Staff table only; the demo logins and the bootstrap admin are staff rows created by BootstrapAccounts
     @Bean
-    UserDetailsService userDetailsService(PasswordEncoder pe) {
-        var mgr = new InMemoryUserDetailsManager();
-        mgr.createUser(User.withUsername("planner@demo.com")
-                .password(pe.encode("planner123"))
-                .roles("PLANNER")
-                .build());
-        mgr.createUser(User.withUsername("admin@demo.com")
-                .password(pe.encode("admin123"))
-                .roles("ADMIN")
-                .build());
-        return mgr;
+    StaffUserDetailsService userDetailsService(StaffRepository staff, StaffService staffService) {
+        return new StaffUserDetailsService(staff, staffService);
     }
 
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http,
+                                    @Value("${app.metrics.scrape-token:}") String scrapeToken) throws Exception {
         http
                 // IMPORTANT: disable request cache so we ALWAYS use our success handler target
                 .requestCache(cache -> cache.disable())
@@ -45,6 +50,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/error").permitAll()
                         .requestMatchers("/login").permitAll()          // allow login page (custom or default)
+                        .requestMatchers("/actuator/prometheus").access(metricsAccess(scrapeToken))
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/planner/**").hasAnyRole("PLANNER","ADMIN")
                         .anyRequest().authenticated()
@@ -73,6 +80,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Admins, or a scraper sending {@code Authorization: Bearer <app.metrics.scrape-token>}.
+     * Without a configured token only admins can read the metrics.
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> metricsAccess(String scrapeToken) {
+        AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+        byte[] expected = ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+        return (authentication, context) -> {
+            String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (!scrapeToken.isBlank() && header != null
+                    && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8))) {
+                return new AuthorizationDecision(true);
+            }
+            return admin.check(authentication, context);
+        };
+    }
+
     @Bean
     public AuthenticationSuccessHandler roleBasedSuccessHandler() {
         return (request, response, authentication) -> {
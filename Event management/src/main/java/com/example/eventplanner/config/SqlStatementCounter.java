@@ -0,0 +1,45 @@
+// config/SqlStatementCounter.java
+package com.example.eventplanner.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statements prepared on the current thread since the last {@link #reset()}; fed by
+ * {@link StatementCountingDataSource}, read per request by {@code RequestBudgetInterceptor}.
+ * Covers JPA and JdbcTemplate alike; a JDBC batch counts once. Work forked off the
+ * request thread shares its counter through {@link #propagating}.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<AtomicLong> COUNT = ThreadLocal.withInitial(AtomicLong::new);
+
+    private SqlStatementCounter() {}
+
+    static void increment() {
+        COUNT.get().incrementAndGet();
+    }
+
+    public static long current() {
+        return COUNT.get().get();
+    }
+
+    /** Starts a fresh count on this thread (tasks forked earlier keep their old counter). */
+    public static void reset() {
+        COUNT.set(new AtomicLong());
+    }
+
+    /** Wraps {@code task} so statements it runs on another thread count towards the caller's total. */
+    public static <T> Callable<T> propagating(Callable<T> task) {
+        AtomicLong owner = COUNT.get();
+        return () -> {
+            AtomicLong previous = COUNT.get();
+            COUNT.set(owner);
+            try {
+                return task.call();
+            } finally {
+                COUNT.set(previous);
+            }
+        };
+    }
+}
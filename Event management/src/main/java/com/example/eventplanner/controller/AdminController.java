@@ -1,23 +1,45 @@
 package com.example.eventplanner.controller;
 
-import com.example.eventplanner.domain.Event;
 import com.example.eventplanner.domain.Staff;
 import com.example.eventplanner.domain.enums.EventStatus;
 import com.example.eventplanner.domain.enums.EventCategory;
 import com.example.eventplanner.domain.enums.Role;
+import com.example.eventplanner.dto.AnalyticsReport;
+import com.example.eventplanner.dto.BulkActionResult;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.dto.TransitionResult;
 
+import com.example.eventplanner.service.CacheRegistry;
+import com.example.eventplanner.service.EventAnalyticsService;
+import com.example.eventplanner.service.EventExportService;
 import com.example.eventplanner.service.EventService;
+import com.example.eventplanner.service.LocalCache;
+import com.example.eventplanner.service.PendingQueuePushService;
+import com.example.eventplanner.service.PlannerDashboardService;
+import com.example.eventplanner.service.PlannerViewVersions;
 import com.example.eventplanner.service.StaffService;
-import com.example.eventplanner.service.NotificationService;
+import static com.example.eventplanner.web.ConditionalViews.notModified;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Controller
@@ -26,67 +48,93 @@ public class AdminController {
 
     private final EventService eventService;
     private final StaffService staffService;
-    private final NotificationService notificationService;
+    private final PasswordEncoder passwordEncoder;
+    private final EventExportService exportService;
+    private final PlannerViewVersions viewVersions;
+    private final CacheRegistry cacheRegistry;
+    private final PlannerDashboardService dashboards;
+    private final PendingQueuePushService pendingQueue;
+    private final EventAnalyticsService analytics;
 
     public AdminController(EventService eventService,
                            StaffService staffService,
-                           NotificationService notificationService) {
+                           PasswordEncoder passwordEncoder,
+                           EventExportService exportService,
+                           PlannerViewVersions viewVersions,
+                           CacheRegistry cacheRegistry,
+                           PlannerDashboardService dashboards,
+                           PendingQueuePushService pendingQueue,
+                           EventAnalyticsService analytics) {
         this.eventService = eventService;
         this.staffService = staffService;
-        this.notificationService = notificationService;
+        this.passwordEncoder = passwordEncoder;
+        this.exportService = exportService;
+        this.viewVersions = viewVersions;
+        this.cacheRegistry = cacheRegistry;
+        this.dashboards = dashboards;
+        this.pendingQueue = pendingQueue;
+        this.analytics = analytics;
     }
 
+    // Sortable columns of the "All Events" table (anything else falls back to createdAt)
+    private static final Set<String> SORTABLE = Set.of("createdAt", "eventDate", "title", "venue", "status", "category");
+    private static final int MAX_PAGE_SIZE = 100;
+
     // ---------------- Dashboard (Pending + All Events + Staff) ----------------
     @GetMapping
-    public String dashboard(@RequestParam(required = false) String status,
+    public String dashboard(@RequestParam(required = false) String q,
+                            @RequestParam(required = false) EventStatus status,
                             @RequestParam(required = false) EventCategory category,
                             @RequestParam(required = false) Long plannerId,
                             @RequestParam(required = false)
                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
                             @RequestParam(required = false)
                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                            @RequestParam(defaultValue = "0") int page,
+                            @RequestParam(defaultValue = "20") int size,
+                            @RequestParam(defaultValue = "createdAt") String sort,
+                            @RequestParam(defaultValue = "desc") String dir,
+                            @RequestParam(defaultValue = "0") int pendingPage,
                             Model model) {
 
-        // Pending approvals
-        List<Event> pending = eventService.findByStatus(EventStatus.PENDING);
-
-        // All events + simple in-memory filters (keeps repo untouched)
-        List<Event> all = eventService.findAll();
+        // Pending approvals, oldest first, paged by ?pendingPage; the live feed resumes from the sequence read first
+        long pendingSeq = pendingQueue.currentSeq();
+        Page<EventListItem> pending = eventService.findByStatus(EventStatus.PENDING,
+                PageRequest.of(Math.max(pendingPage, 0), MAX_PAGE_SIZE, Sort.by("createdAt").and(Sort.by("id"))));
 
-        if (status != null && !status.isBlank()) {
-            EventStatus s = EventStatus.valueOf(status);
-            all = all.stream().filter(e -> e.getStatus() == s).collect(Collectors.toList());
-        }
-        if (category != null) {
-            all = all.stream().filter(e -> e.getCategory() == category).collect(Collectors.toList());
-        }
-        if (plannerId != null) {
-            all = all.stream()
-                    .filter(e -> e.getPlanner() != null && Objects.equals(e.getPlanner().getId(), plannerId))
-                    .collect(Collectors.toList());
-        }
-        if (fromDate != null) {
-            all = all.stream()
-                    .filter(e -> e.getEventDate() != null && !e.getEventDate().isBefore(fromDate))
-                    .collect(Collectors.toList());
-        }
-        if (toDate != null) {
-            all = all.stream()
-                    .filter(e -> e.getEventDate() != null && !e.getEventDate().isAfter(toDate))
-                    .collect(Collectors.toList());
-        }
+        // All events: filtered, sorted and paged by the database (one page + one count query);
+        // status binds case-insensitively (WebConfig), an unknown value is a 400
+        String sortField = SORTABLE.contains(sort) ? sort : "createdAt";
+        Sort.Direction direction = "asc".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(direction, sortField).and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<EventListItem> all = (q != null && !q.isBlank())
+                ? eventService.searchAll(q, status, category, plannerId, fromDate, toDate, pageable)   // ranked text search
+                : eventService.search(status, category, plannerId, fromDate, toDate, pageable);
 
         // Staff list + planners (for filters)
         List<Staff> staffList = staffService.findAll();
         List<Staff> planners = staffList.stream()
-                .filter(s -> s.getRole() == Role.PLANNER)
+                .filter(st -> st.getRole() == Role.PLANNER)
                 .collect(Collectors.toList());
+        Map<Long, Long> assignedCounts = eventService.countByStaffIds(
+                staffList.stream().map(Staff::getId).collect(Collectors.toList()));
 
-        model.addAttribute("pendingEvents", pending);
-        model.addAttribute("pendingCount", pending.size());
-        model.addAttribute("allEvents", all);
+        model.addAttribute("pendingEvents", pending.getContent());
+        model.addAttribute("pendingCount", pending.getTotalElements());
+        model.addAttribute("pendingPage", pending);
+        model.addAttribute("pendingQueueSeq", pendingSeq);
+        model.addAttribute("pendingConflicts", eventService.conflictFlags(
+                pending.getContent().stream().map(EventListItem::getId).collect(Collectors.toList())));
+        model.addAttribute("allEvents", all.getContent());
+        model.addAttribute("eventsPage", all);
+        model.addAttribute("totalEvents", all.getTotalElements());
+        model.addAttribute("q", q);
+        model.addAttribute("sort", sortField);
+        model.addAttribute("dir", direction.name().toLowerCase());
         model.addAttribute("staffList", staffList);
         model.addAttribute("planners", planners);
+        model.addAttribute("assignedCounts", assignedCounts);
 
         return "admin/dashboard";
     }
@@ -95,38 +143,111 @@ public class AdminController {
     @PostMapping("/event/approve")
     public String approve(@RequestParam Long eventId,
                           @RequestParam(required = false) String notes) {
-        Event e = eventService.findById(eventId);
-        e.setStatus(EventStatus.PUBLISHED);
-        eventService.save(e);
-
-        // Notify (no-op if your service handles null/empty gracefully)
-        notificationService.notifyApproved(e, notes);
-        return "redirect:/admin";
+        // status change + queued notification commit together; delivery is asynchronous
+        return afterTransition(eventService.approve(eventId, notes));
     }
 
     @PostMapping("/event/reject")
     public String reject(@RequestParam Long eventId,
                          @RequestParam String rejectionReason) {
-        Event e = eventService.findById(eventId);
-        e.setStatus(EventStatus.REJECTED);
-        e.setRejectionReason(rejectionReason);
-        eventService.save(e);
-
-        notificationService.notifyRejected(e, rejectionReason);
-        return "redirect:/admin";
+        return afterTransition(eventService.reject(eventId, rejectionReason));
     }
 
     @PostMapping("/event/{id}/complete")
     public String complete(@PathVariable Long id) {
-        Event e = eventService.findById(id);
-        e.setStatus(EventStatus.COMPLETED);
-        eventService.save(e);
-        return "redirect:/admin";
+        return afterTransition(eventService.complete(id));
+    }
+
+    /** Lost races and illegal moves change nothing; the dashboard shows which event conflicted. */
+    private static String afterTransition(TransitionResult result) {
+        return result.isApplied() ? "redirect:/admin" : "redirect:/admin?conflict=" + result.getEventId();
+    }
+
+    // ---------------- Bulk actions (JSON: transitioned + skipped ids) ----------------
+    @PostMapping("/events/bulk/approve")
+    @ResponseBody
+    public BulkActionResult approveAll(@RequestParam List<Long> eventIds,
+                                       @RequestParam(required = false) String notes) {
+        return eventService.approveAll(eventIds, notes);
+    }
+
+    @PostMapping("/events/bulk/reject")
+    @ResponseBody
+    public BulkActionResult rejectAll(@RequestParam List<Long> eventIds,
+                                      @RequestParam String rejectionReason) {
+        return eventService.rejectAll(eventIds, rejectionReason);
+    }
+
+    @PostMapping("/events/bulk/complete")
+    @ResponseBody
+    public BulkActionResult completeAll(@RequestParam List<Long> eventIds) {
+        return eventService.completeAll(eventIds);
+    }
+
+    // ---------------- Live pending queue (Server-Sent Events) ----------------
+    /** Pending-queue changes after {@code since} (the page's pendingQueueSeq) or the Last-Event-ID. */
+    @GetMapping(path = "/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter pendingStream(@RequestParam(required = false) Long since,
+                                    @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return pendingQueue.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+    // ---------------- Analytics (answered from the event rollups) ----------------
+    /** Range report; defaults to the last 12 months. */
+    @GetMapping("/analytics")
+    @ResponseBody
+    public AnalyticsReport analytics(@RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(12).plusDays(1);
+        if (start.isAfter(end)) throw new IllegalArgumentException("from must not be after to");
+        return analytics.report(start, end);
+    }
+
+    /** Recovery / first install: recomputes the rollups from the events table. */
+    @PostMapping("/analytics/backfill")
+    @ResponseBody
+    public Map<String, Integer> backfillAnalytics() {
+        return Map.of("rollupRows", analytics.backfill());
+    }
+
+    // ---------------- Export (CSV / NDJSON, optionally gzipped), same filters as dashboard ----------------
+    // format and status bind as enums, case-insensitive (WebConfig); an unknown value is a 400, not a 500
+    @GetMapping("/events/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "CSV") EventExportService.Format format,
+                                                        @RequestParam(defaultValue = "false") boolean gzip,
+                                                        @RequestParam(required = false) EventStatus status,
+                                                        @RequestParam(required = false) EventCategory category,
+                                                        @RequestParam(required = false) Long plannerId,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        String ext = format == EventExportService.Format.CSV ? "csv" : "ndjson";
+        String filename = "events-" + LocalDate.now() + "." + ext + (gzip ? ".gz" : "");
+        MediaType type = gzip ? MediaType.parseMediaType("application/gzip")
+                : format == EventExportService.Format.CSV ? MediaType.parseMediaType("text/csv; charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> exportService.export(status, category, plannerId, fromDate, toDate, format, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     // ---------------- Modal: Event details (HTML fragment) ----------------
     @GetMapping("/event/{id}/details")
-    public String eventDetails(@PathVariable Long id, Model model) {
+    public String eventDetails(@PathVariable Long id, ServletWebRequest request, Model model) {
+        var version = eventService.findVersion(id).orElse(null);
+        if (version != null && notModified(request,
+                version.getVersion() + "." + viewVersions.current(version.getPlannerId()),   // planner name is shown too
+                version.getUpdatedAt() == null ? -1 : version.getUpdatedAt().toInstant().toEpochMilli())) {
+            return null;
+        }
         model.addAttribute("event", eventService.findById(id));
         return "admin/event-details :: content";
     }
@@ -143,8 +264,7 @@ public class AdminController {
         s.setName(name);
         s.setEmail(email);
         s.setRole(role);
-        // Keep compatible with your security config (no encoder): prefix {noop}
-        s.setPasswordHash("{noop}" + password);
+        s.setPasswordHash(passwordEncoder.encode(password));   // {bcrypt}...
         s.setActive(true);
 
         staffService.save(s);
@@ -161,24 +281,50 @@ public class AdminController {
 
     // ---------------- Modal: Staff details (HTML fragment) ----------------
     @GetMapping("/staff/{id}/details")
-    public String staffDetails(@PathVariable Long id, Model model) {
-        Staff s = staffService.findById(id);
+    public String staffDetails(@PathVariable Long id, ServletWebRequest request, Model model) {
+        // staff row and assigned-event count both move this staff member's view version
+        if (notModified(request, viewVersions.current(id))) return null;
+        Staff s = staffService.findCachedById(id);
         int assigned = eventService.countByStaffId(id);
         model.addAttribute("staff", s);
         model.addAttribute("assignedCount", assigned);
         return "admin/staff-details :: content";
     }
 
+    // ---------------- Cache statistics (size, hits, misses, evictions per cache) ----------------
+    @GetMapping("/caches")
+    @ResponseBody
+    public Map<String, LocalCache.Stats> cacheStats() {
+        return cacheRegistry.stats();
+    }
+
+    /** Recovery: recomputes planner_dashboard rows from events/notifications (one planner or all). */
+    @PostMapping("/dashboards/rebuild")
+    @ResponseBody
+    public Map<String, Integer> rebuildDashboards(@RequestParam(required = false) Long plannerId) {
+        if (plannerId != null) {
+            dashboards.rebuild(plannerId);
+            return Map.of("rebuilt", 1);
+        }
+        return Map.of("rebuilt", dashboards.rebuildAll());
+    }
+
     // Optional: same dashboard with /events path (used by filter form action)
     @GetMapping("/events")
-    public String allEventsProxy(@RequestParam(required = false) String status,
+    public String allEventsProxy(@RequestParam(required = false) String q,
+                                 @RequestParam(required = false) EventStatus status,
                                  @RequestParam(required = false) EventCategory category,
                                  @RequestParam(required = false) Long plannerId,
                                  @RequestParam(required = false)
                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
                                  @RequestParam(required = false)
                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "20") int size,
+                                 @RequestParam(defaultValue = "createdAt") String sort,
+                                 @RequestParam(defaultValue = "desc") String dir,
+                                 @RequestParam(defaultValue = "0") int pendingPage,
                                  Model model) {
-        return dashboard(status, category, plannerId, fromDate, toDate, model);
+        return dashboard(q, status, category, plannerId, fromDate, toDate, page, size, sort, dir, pendingPage, model);
     }
 }
@@ -6,20 +6,43 @@ import com.example.eventplanner.domain.Staff;
 import com.example.eventplanner.domain.enums.EventCategory;
 import com.example.eventplanner.domain.enums.EventStatus;
 import com.example.eventplanner.dto.EventForm;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.dto.ImportResult;
+import com.example.eventplanner.dto.NotificationPage;
+import com.example.eventplanner.dto.PlannerDashboardView;
+import com.example.eventplanner.dto.VenueConflict;
 import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.service.EventImportService;
 import com.example.eventplanner.service.EventService;
 import com.example.eventplanner.service.NotificationService;
-import com.example.eventplanner.web.CurrentUser;
+import com.example.eventplanner.service.PlannerDashboardService;
+import com.example.eventplanner.service.PlannerViewVersions;
+import com.example.eventplanner.web.ConcurrentModel;
+import com.example.eventplanner.web.CurrentStaff;
+import static com.example.eventplanner.web.ConditionalViews.notModified;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.format.DateTimeFormatter;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 @Controller
 @RequestMapping("/planner")
@@ -29,19 +52,40 @@ public class PlannerController {
     private final EventRepository events;
     private final EventService eventService;
     private final NotificationService notifications;
-    private final CurrentUser currentUser;
+    private final EventImportService importService;
+    private final PlannerViewVersions viewVersions;
+    private final ConcurrentModel concurrentModel;
+    private final PlannerDashboardService dashboards;
+
+    private static final int SEARCH_LIMIT = 200;
+    private static final int NOTIFICATION_PAGE_MAX = 100;
 
     @GetMapping("/")
     public String home() { return "redirect:/planner"; }
 
 
-    /** Common header/footer model bits */
-    private void addCommon(Model model, Staff planner) {
-        Map<String, Long> stats = eventService.statsFor(planner);
+    /**
+     * Common header/footer model bits. Stats and the unread count are in-memory cache hits and
+     * are read inline; the recent-events query is forked while {@code main} (the page's own
+     * content) runs on the request thread, where open-session-in-view still covers lazy
+     * associations of the returned entities. So a page holds at most two pooled connections.
+     * Header pieces that fail or time out render empty.
+     */
+    private <T> T withCommon(Model model, Staff planner, Supplier<T> main) {
+        T result;
+        try (ConcurrentModel.Tasks tasks = concurrentModel.start()) {
+            Future<List<EventListItem>> recent = tasks.fork(() -> events.findListItemsByPlanner(planner, PageRequest.of(0, 10)));
+            result = main.get();
+            model.addAttribute("stats", eventService.statsFor(planner));
+            model.addAttribute("notificationCount", notifications.unreadCount(planner));
+            model.addAttribute("recentEvents", tasks.getOr(recent, List.of(), "recentEvents"));
+        }
+        addStatic(model, planner);
+        return result;
+    }
+
+    private void addStatic(Model model, Staff planner) {
         model.addAttribute("planner", planner);
-        model.addAttribute("stats", stats);
-        model.addAttribute("notificationCount", notifications.unreadCount(planner));
-        model.addAttribute("recentEvents", events.findTop10ByPlannerOrderByCreatedAtDesc(planner));
         if (!model.containsAttribute("eventForm")) {
             model.addAttribute("eventForm", new EventForm());
         }
@@ -50,25 +94,33 @@ public class PlannerController {
         model.addAttribute("allCategories", EventCategory.values());
     }
 
-    /** Dashboard – also preload events so My Events shows without pressing Filter */
+    /**
+     * Dashboard, rendered from the planner's {@code planner_dashboard} row (one primary-key
+     * lookup). The My Events section is preloaded with the newest events; {@code allEventsUrl}
+     * links to /planner/events for the full list, and {@code hasMoreEvents} says whether the
+     * preview is cut short.
+     */
     @GetMapping
-    public String dashboard(Authentication auth, Model model){
-        Staff planner = currentUser.resolve(auth);
-        addCommon(model, planner);
-
-        // preload ALL events for this planner (so the My Events section has data immediately)
-        List<Event> list = events.findByPlannerOrderByCreatedAtDesc(planner);
-        model.addAttribute("events", list);
+    public String dashboard(@CurrentStaff Staff planner, ServletWebRequest request, Model model){
+        if (notModified(request, viewVersions.current(planner.getId()))) return null;
+        PlannerDashboardView d = dashboards.get(planner.getId());
+        model.addAttribute("stats", d.getStats());
+        model.addAttribute("notificationCount", d.getUnreadCount());
+        model.addAttribute("recentEvents", d.getRecentEvents());
+        model.addAttribute("upcomingEvents", d.getUpcomingEvents());
+        model.addAttribute("events", d.getRecentEvents());
+        model.addAttribute("allEventsUrl", "/planner/events");
+        model.addAttribute("hasMoreEvents", d.getStats().getOrDefault("totalEvents", 0L) > d.getRecentEvents().size());
+        addStatic(model, planner);
 
         return "planner/index";
     }
 
     /** Create event (draft or submit) */
     @PostMapping("/event/create")
-    public String create(Authentication auth,
+    public String create(@CurrentStaff Staff planner,
                          @RequestParam String action,
                          @Valid @ModelAttribute("eventForm") EventForm form){
-        Staff planner = currentUser.resolve(auth);
         if ("submit".equalsIgnoreCase(action)) {
             eventService.createAndSubmit(planner, form);
         } else {
@@ -78,19 +130,58 @@ public class PlannerController {
         return "redirect:/planner/events";
     }
 
+    /**
+     * Bulk import (CSV with header row, or NDJSON); streamed, returns per-row errors.
+     * A file that cannot be read at all (unknown format, bad CSV header) is a 400 with {@code error} set.
+     */
+    @PostMapping("/events/import")
+    @ResponseBody
+    public ResponseEntity<ImportResult> importEvents(@CurrentStaff Staff planner,
+                                                     @RequestParam MultipartFile file,
+                                                     @RequestParam(defaultValue = "draft") String action,
+                                                     @RequestParam(required = false) String format,
+                                                     @RequestParam(required = false) Integer batchSize) throws IOException {
+        var fmt = EventImportService.detectFormat(format, file.getOriginalFilename(), file.getContentType());
+        if (fmt == null) {
+            return ResponseEntity.badRequest().body(ImportResult.rejected(
+                    "format: expected one of " + Arrays.toString(EventImportService.Format.values())));
+        }
+        ImportResult result;
+        try (InputStream in = file.getInputStream()) {
+            result = importService.importEvents(planner, in, fmt, "submit".equalsIgnoreCase(action), batchSize);
+        }
+        return result.getError() != null ? ResponseEntity.badRequest().body(result) : ResponseEntity.ok(result);
+    }
+
+    /** Venue double-booking check for the create/edit form; pass excludeId when editing */
+    @GetMapping("/venue-conflicts")
+    @ResponseBody
+    public List<VenueConflict> venueConflicts(@RequestParam String venue,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                              @RequestParam(required = false) Long excludeId) {
+        return eventService.venueConflicts(venue, date, excludeId);
+    }
+
     /** My Events (with optional filters). If none, return ALL. */
     @GetMapping("/events")
-    public String myEvents(Authentication auth,
+    public String myEvents(@CurrentStaff Staff planner,
+                           @RequestParam(required = false) String q,
                            @RequestParam(required = false) EventStatus status,
                            @RequestParam(required = false) EventCategory category,
                            @RequestParam(required = false) LocalDate fromDate,
+                           ServletWebRequest request,
                            Model model){
-        Staff planner = currentUser.resolve(auth);
-        addCommon(model, planner);
-
-        List<Event> list = (status == null && category == null && fromDate == null)
-                ? events.findByPlannerOrderByCreatedAtDesc(planner)
-                : events.filter(planner, status, category, fromDate);
+        if (notModified(request, viewVersions.current(planner.getId()))) return null;
+        List<EventListItem> list = withCommon(model, planner, () -> {
+            if (q != null && !q.isBlank()) {
+                // ranked full-text search over this planner's own events
+                return eventService.searchForPlanner(planner, q, status, category, fromDate, SEARCH_LIMIT);
+            } else if (status == null && category == null && fromDate == null) {
+                return events.findListItemsByPlanner(planner, Pageable.unpaged());
+            }
+            return events.filter(planner, status, category, fromDate);
+        });
+        if (q != null && !q.isBlank()) model.addAttribute("q", q);
 
         model.addAttribute("events", list);
         model.addAttribute("activeSection", "events");
@@ -100,11 +191,9 @@ public class PlannerController {
 
     /** View event details – uses planner/event-view.html */
     @GetMapping("/event/{id}")
-    public String view(Authentication auth, @PathVariable Long id, Model model){
-        Staff planner = currentUser.resolve(auth);
-        addCommon(model, planner);
-
-        Event event = eventService.getForPlanner(planner, id);
+    public String view(@CurrentStaff Staff planner, @PathVariable Long id, ServletWebRequest request, Model model){
+        if (notModified(request, viewVersions.current(planner.getId()))) return null;
+        Event event = withCommon(model, planner, () -> eventService.getForPlanner(planner, id));
         model.addAttribute("event", event);
 
         // prefill form for updates
@@ -114,6 +203,7 @@ public class PlannerController {
         form.setVenue(event.getVenue());
         form.setCategory(event.getCategory());
         form.setDescription(event.getDescription());
+        form.setVersion(event.getVersion());
         model.addAttribute("eventForm", form);
 
         // <input type="date"> needs yyyy-MM-dd; provide a string for the template
@@ -126,44 +216,42 @@ public class PlannerController {
     }
     /** Update event */
     @PostMapping("/event/{id}/update")
-    public String update(Authentication auth,
+    public String update(@CurrentStaff Staff planner,
                          @PathVariable Long id,
                          @Valid @ModelAttribute("eventForm") EventForm form){
-        Staff planner = currentUser.resolve(auth);
-        eventService.updateEvent(planner, id, form);
+        try {
+            eventService.updateEvent(planner, id, form);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            return "redirect:/planner/event/" + id + "?conflict";   // edited elsewhere meanwhile; reload
+        }
         return "redirect:/planner/event/" + id + "?updated";
     }
 
     /** Submit draft for approval */
     @PostMapping("/event/{id}/submit")
-    public String submit(Authentication auth, @PathVariable Long id){
-        Staff planner = currentUser.resolve(auth);
-        eventService.submitForApproval(planner, id);
+    public String submit(@CurrentStaff Staff planner, @PathVariable Long id){
+        if (!eventService.submitForApproval(planner, id).isApplied()) return "redirect:/planner/events?conflict";
         return "redirect:/planner/events?submitted";  // ← Redirect to events list
     }
     /** Cancel event */
     @PostMapping("/event/{id}/cancel")
-    public String cancel(Authentication auth, @PathVariable Long id){
-        Staff planner = currentUser.resolve(auth);
-        eventService.cancel(planner, id);
+    public String cancel(@CurrentStaff Staff planner, @PathVariable Long id){
+        if (!eventService.cancel(planner, id).isApplied()) return "redirect:/planner/events?conflict";
         return "redirect:/planner/events";
     }
     // PlannerController.java
 
     @PostMapping("/event/{id}/delete")
-    public String delete(Authentication auth, @PathVariable Long id) {
-        Staff planner = currentUser.resolve(auth);
+    public String delete(@CurrentStaff Staff planner, @PathVariable Long id) {
         eventService.deleteEvent(planner, id);
         // after deletion go back to the list; adding a flag so the UI can show a toast if you want
         return "redirect:/planner/events?deleted";
     }
     /** Edit event form */
     @GetMapping("/event/{id}/edit")
-    public String edit(Authentication auth, @PathVariable Long id, Model model){
-        Staff planner = currentUser.resolve(auth);
-        addCommon(model, planner);
-
-        Event event = eventService.getForPlanner(planner, id);
+    public String edit(@CurrentStaff Staff planner, @PathVariable Long id, ServletWebRequest request, Model model){
+        if (notModified(request, viewVersions.current(planner.getId()))) return null;
+        Event event = withCommon(model, planner, () -> eventService.getForPlanner(planner, id));
         model.addAttribute("event", event);
 
         // prefill form for editing
@@ -173,6 +261,7 @@ public class PlannerController {
         form.setVenue(event.getVenue());
         form.setCategory(event.getCategory());
         form.setDescription(event.getDescription());
+        form.setVersion(event.getVersion());
         model.addAttribute("eventForm", form);
 
         return "planner/event-edit";  // or reuse event-view if it has both view and edit modes
@@ -180,8 +269,38 @@ public class PlannerController {
 
     /** Mark notification as read */
     @PostMapping("/notification/{id}/mark-read")
-    public String markRead(@PathVariable Long id){
-        notifications.markRead(id);
+    public String markRead(@CurrentStaff Staff planner, @PathVariable Long id){
+        notifications.markRead(planner, List.of(id));
+        return "redirect:/planner";
+    }
+
+    /** Mark several notifications as read in one statement; returns how many changed */
+    @PostMapping("/notifications/mark-read")
+    @ResponseBody
+    public Map<String, Integer> markReadAll(@CurrentStaff Staff planner, @RequestParam List<Long> ids){
+        return Map.of("marked", notifications.markRead(planner, ids));
+    }
+
+    /** Notification history, newest first, cursor-paged (JSON) */
+    @GetMapping("/notifications")
+    @ResponseBody
+    public NotificationPage notificationHistory(@CurrentStaff Staff planner,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size){
+        return notifications.history(planner, cursor, Math.max(1, Math.min(size, NOTIFICATION_PAGE_MAX)));
+    }
+
+    /** Mark all of this planner's notifications as read */
+    @PostMapping("/notifications/mark-all-read")
+    public String markAllRead(@CurrentStaff Staff planner){
+        notifications.markAllRead(planner);
         return "redirect:/planner";
     }
+
+    /** Live unread count + new notifications (Server-Sent Events) */
+    @GetMapping(path = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter notificationStream(@CurrentStaff Staff planner){
+        return notifications.subscribe(planner);
+    }
 }
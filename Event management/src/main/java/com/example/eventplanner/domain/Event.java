@@ -4,16 +4,23 @@ package com.example.eventplanner.domain;
 import com.example.eventplanner.domain.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Entity @Getter @Setter
-@Table(name="events")
+@Table(name="events", indexes = {
+        @Index(name="idx_events_planner_created", columnList="planner_id, created_at"),
+        @Index(name="idx_events_status_created", columnList="status, created_at"),
+        @Index(name="idx_events_category", columnList="category"),
+        @Index(name="idx_events_event_date", columnList="event_date"),
+        @Index(name="idx_events_status_event_date", columnList="status, event_date")
+})
 public class Event {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(optional=false) @JoinColumn(name="planner_id")
+    @ManyToOne(optional=false, fetch=FetchType.LAZY) @JoinColumn(name="planner_id")
     private Staff planner;
 
     @Column(nullable=false) private String title;
@@ -31,4 +38,7 @@ public class Event {
     private OffsetDateTime createdAt = OffsetDateTime.now();
     private OffsetDateTime submittedAt;   // when moved to PENDING
     private OffsetDateTime publishedAt;
+
+    @Version @Column(nullable=false, columnDefinition = "bigint default 0") private long version;
+    @UpdateTimestamp private OffsetDateTime updatedAt;   // Last-Modified for conditional GETs
 }
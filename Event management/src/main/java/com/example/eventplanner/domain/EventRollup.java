@@ -0,0 +1,30 @@
+// domain/EventRollup.java
+package com.example.eventplanner.domain;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * Analytics rollup: what happened on one day to one planner's events of one category,
+ * per status entered. Filled from {@link EventRollupDelta} by EventRollupFolder.
+ */
+@Entity @Getter @Setter @NoArgsConstructor
+@Table(name="event_rollups", uniqueConstraints =
+        @UniqueConstraint(name="uk_event_rollups_key", columnNames={"day", "planner_id", "category", "status"}))
+public class EventRollup {
+    @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable=false) private LocalDate day;
+    @Column(name="planner_id", nullable=false) private Long plannerId;
+    @Enumerated(EnumType.STRING) @Column(nullable=false) private EventCategory category;
+    @Enumerated(EnumType.STRING) @Column(nullable=false) private EventStatus status;
+
+    private long created;          // events created directly in this status (DRAFT or PENDING)
+    private long entered;          // events that reached this status, created or by a transition
+    private long latencySeconds;   // PUBLISHED / REJECTED: sum of submittedAt -> decision
+    private long latencyCount;
+}
@@ -0,0 +1,29 @@
+// domain/EventRollupDelta.java
+package com.example.eventplanner.domain;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * Increment to an {@link EventRollup} row, written in the transaction that changed the event
+ * (insert only, so writers never contend) and folded into {@code event_rollups} in batches.
+ */
+@Entity @Getter @Setter
+@Table(name="event_rollup_deltas")
+public class EventRollupDelta {
+    @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable=false) private LocalDate day;
+    @Column(name="planner_id", nullable=false) private Long plannerId;
+    @Enumerated(EnumType.STRING) @Column(nullable=false) private EventCategory category;
+    @Enumerated(EnumType.STRING) @Column(nullable=false) private EventStatus status;
+
+    private long created;
+    private long entered;
+    private long latencySeconds;
+    private long latencyCount;
+}
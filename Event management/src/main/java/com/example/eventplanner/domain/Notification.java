@@ -3,15 +3,20 @@ package com.example.eventplanner.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.OffsetDateTime;
 
 @Entity @Getter @Setter
-@Table(name="notifications")
+@Table(name="notifications", indexes = {
+        @Index(name="idx_notifications_recipient_created", columnList="recipient_id, created_at, id"),   // history keyset
+        @Index(name="idx_notifications_recipient_read", columnList="recipient_id, read_flag"),            // unread counts
+        @Index(name="idx_notifications_read_created", columnList="read_flag, created_at")                 // retention
+})
 public class Notification {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(optional=false) @JoinColumn(name="recipient_id")
+    @ManyToOne(optional=false, fetch=FetchType.LAZY) @JoinColumn(name="recipient_id")
     private Staff recipient;
 
     private String title;
@@ -20,6 +25,6 @@ public class Notification {
     private boolean readFlag = false;
     private OffsetDateTime createdAt = OffsetDateTime.now();
 
-
-
+    @Version @Column(nullable=false, columnDefinition = "bigint default 0") private long version;
+    @UpdateTimestamp private OffsetDateTime updatedAt;
 }
@@ -0,0 +1,24 @@
+// domain/NotificationArchive.java
+package com.example.eventplanner.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.OffsetDateTime;
+
+/** Read notifications moved out of {@code notifications} by the retention job; same ids. */
+@Entity @Getter @Setter
+@Table(name="notifications_archive", indexes = {
+        @Index(name="idx_notifications_archive_recipient_created", columnList="recipient_id, created_at")
+})
+public class NotificationArchive {
+    @Id
+    private Long id;
+
+    @Column(name="recipient_id", nullable=false) private Long recipientId;
+
+    private String title;
+    @Column(length=1000) private String message;
+    private String type;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime archivedAt;
+}
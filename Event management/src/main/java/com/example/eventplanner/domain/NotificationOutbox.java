@@ -0,0 +1,21 @@
+// domain/NotificationOutbox.java
+package com.example.eventplanner.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.OffsetDateTime;
+
+/** A notification that has been decided on but not yet delivered into {@code notifications}. */
+@Entity @Getter @Setter
+@Table(name="notification_outbox")
+public class NotificationOutbox {
+    @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable=false) private Long recipientId;
+
+    private String title;
+    @Column(length=1000) private String message;
+    private String type;          // APPROVED / REJECTED / INFO
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+}
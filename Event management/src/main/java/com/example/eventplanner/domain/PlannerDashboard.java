@@ -0,0 +1,30 @@
+// domain/PlannerDashboard.java
+package com.example.eventplanner.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.OffsetDateTime;
+
+/**
+ * Denormalized planner dashboard: one row per planner, kept current by the writers of
+ * {@code events} and {@code notifications} (see PlannerDashboardService). Lists are JSON.
+ */
+@Entity @Getter @Setter
+@Table(name="planner_dashboard")
+public class PlannerDashboard {
+    @Id @Column(name="planner_id")
+    private Long plannerId;
+
+    @Column(name="draft_count", nullable=false) private long draftCount;
+    @Column(name="pending_count", nullable=false) private long pendingCount;
+    @Column(name="published_count", nullable=false) private long publishedCount;
+    @Column(name="rejected_count", nullable=false) private long rejectedCount;
+    @Column(name="cancelled_count", nullable=false) private long cancelledCount;
+    @Column(name="completed_count", nullable=false) private long completedCount;
+    @Column(name="unread_count", nullable=false) private long unreadCount;
+
+    @Column(name="recent_json", length=16000) private String recentJson;       // newest events
+    @Column(name="upcoming_json", length=16000) private String upcomingJson;   // next PENDING/PUBLISHED by date
+
+    @Column(name="updated_at") private OffsetDateTime updatedAt;
+}
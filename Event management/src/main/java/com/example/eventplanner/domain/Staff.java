@@ -4,6 +4,8 @@ package com.example.eventplanner.domain;
 import com.example.eventplanner.domain.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.OffsetDateTime;
 import java.util.Set;
 
 @Entity @Getter @Setter
@@ -18,5 +20,8 @@ public class Staff {
     @Enumerated(EnumType.STRING) @Column(nullable=false) private Role role;
     private Boolean active = true;
 
+    @Version @Column(nullable=false, columnDefinition = "bigint default 0") private long version;
+    @UpdateTimestamp private OffsetDateTime updatedAt;
+
     @OneToMany(mappedBy="planner") private Set<Event> events;
 }
@@ -0,0 +1,36 @@
+// domain/enums/EventTransition.java
+package com.example.eventplanner.domain.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/** The allowed status changes of an event: target status and the states it may be entered from. */
+public enum EventTransition {
+    SUBMIT(EventStatus.PENDING, EventStatus.DRAFT, EventStatus.REJECTED),
+    CANCEL(EventStatus.CANCELLED, EventStatus.DRAFT, EventStatus.PENDING, EventStatus.PUBLISHED, EventStatus.REJECTED),
+    APPROVE(EventStatus.PUBLISHED, EventStatus.PENDING),
+    REJECT(EventStatus.REJECTED, EventStatus.PENDING),
+    COMPLETE(EventStatus.COMPLETED, EventStatus.PUBLISHED);
+
+    private final EventStatus to;
+    private final Set<EventStatus> from;
+
+    EventTransition(EventStatus to, EventStatus first, EventStatus... rest) {
+        this.to = to;
+        this.from = Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+
+    public EventStatus to() { return to; }
+
+    public Set<EventStatus> from() { return from; }
+
+    /** The source status when there is only one, i.e. when a successful update tells us exactly what changed. */
+    public EventStatus singleFrom() {
+        return from.size() == 1 ? from.iterator().next() : null;
+    }
+
+    public boolean allows(EventStatus current) {
+        return from.contains(current);
+    }
+}
@@ -0,0 +1,39 @@
+// dto/AnalyticsReport.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import lombok.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/** Admin analytics for a date range, answered from the event rollups. */
+@Getter @AllArgsConstructor
+public class AnalyticsReport {
+    private LocalDate from;
+    private LocalDate to;
+    private List<CategoryMonth> createdByCategory;
+    private List<PlannerStats> planners;
+    private Map<EventStatus, Long> enteredByStatus;
+    private Double avgHoursToApproval;        // null when nothing was approved in the range
+
+    @Getter @AllArgsConstructor
+    public static class CategoryMonth {
+        private String month;                 // yyyy-MM
+        private EventCategory category;
+        private long created;
+    }
+
+    @Getter @AllArgsConstructor
+    public static class PlannerStats {
+        private Long plannerId;
+        private String plannerName;
+        private long submitted;
+        private long approved;
+        private long rejected;
+        private Double approvalRate;          // approved / (approved + rejected); null without decisions
+        private Double rejectionRate;
+        private Double avgHoursToApproval;
+    }
+}
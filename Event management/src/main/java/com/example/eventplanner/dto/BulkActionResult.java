@@ -0,0 +1,13 @@
+// dto/BulkActionResult.java
+package com.example.eventplanner.dto;
+
+import lombok.*;
+import java.util.List;
+
+/** Outcome of a bulk status action: which ids changed and which were left alone. */
+@Getter @AllArgsConstructor
+public class BulkActionResult {
+    private String action;
+    private List<Long> transitioned;
+    private List<Long> skipped;     // unknown ids or not in the required source status
+}
@@ -13,4 +13,5 @@ public class EventForm {
     @NotBlank private String venue;
     @NotNull  private EventCategory category;
     @NotBlank @Size(max=2000) private String description;
+    private Long version;     // hidden field on the edit form; null skips the stale-form check
 }
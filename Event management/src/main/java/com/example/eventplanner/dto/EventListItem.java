@@ -0,0 +1,47 @@
+// dto/EventListItem.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * One row of an event list/table: selected straight from the query, without the
+ * description column or a managed planner entity. {@code planner.id}/{@code planner.name}
+ * stay available so list templates can keep the same expressions.
+ */
+@Getter
+public class EventListItem {
+    private final Long id;
+    private final String title;
+    private final LocalDate eventDate;
+    private final String venue;
+    private final EventCategory category;
+    private final EventStatus status;
+    private final String rejectionReason;
+    private final OffsetDateTime createdAt;
+    private final PlannerRef planner;
+
+    @Getter @AllArgsConstructor
+    public static class PlannerRef {
+        private final Long id;
+        private final String name;
+    }
+
+    // Used by JPQL / Criteria constructor expressions
+    public EventListItem(Long id, String title, LocalDate eventDate, String venue, EventCategory category,
+                         EventStatus status, String rejectionReason, OffsetDateTime createdAt,
+                         Long plannerId, String plannerName) {
+        this.id = id;
+        this.title = title;
+        this.eventDate = eventDate;
+        this.venue = venue;
+        this.category = category;
+        this.status = status;
+        this.rejectionReason = rejectionReason;
+        this.createdAt = createdAt;
+        this.planner = new PlannerRef(plannerId, plannerName);
+    }
+}
@@ -0,0 +1,41 @@
+// dto/ImportResult.java
+package com.example.eventplanner.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a bulk event import; row errors are capped so a bad file cannot grow the heap.
+ * {@code error} is set when the file as a whole was rejected (unknown format, bad CSV header)
+ * and nothing was read.
+ */
+@Getter
+public class ImportResult {
+    public static final int MAX_ERRORS = 1000;
+
+    @Getter @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+
+    private int imported;
+    private int failed;
+    private int batches;
+    private String error;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public static ImportResult rejected(String error) {
+        ImportResult r = new ImportResult();
+        r.error = error;
+        return r;
+    }
+
+    public void addImported(int n) { imported += n; batches++; }
+
+    public void addError(int line, String message) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) errors.add(new RowError(line, message));
+    }
+}
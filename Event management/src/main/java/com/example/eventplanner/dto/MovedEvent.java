@@ -0,0 +1,19 @@
+// dto/MovedEvent.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.enums.EventStatus;
+
+import java.time.LocalDate;
+
+/**
+ * What a bulk transition needs to know about one moved event, copied from the locked row
+ * before the set-based UPDATE clears the persistence context. {@code from} is the status
+ * the event had before the move.
+ */
+public record MovedEvent(Long id, Long plannerId, EventStatus from, String title, LocalDate eventDate) {
+
+    public static MovedEvent of(Event e) {
+        return new MovedEvent(e.getId(), e.getPlanner().getId(), e.getStatus(), e.getTitle(), e.getEventDate());
+    }
+}
@@ -0,0 +1,12 @@
+// dto/NotificationPage.java
+package com.example.eventplanner.dto;
+
+import lombok.*;
+import java.util.List;
+
+/** One page of notification history, newest first; pass {@code nextCursor} back for the next page. */
+@Getter @AllArgsConstructor
+public class NotificationPage {
+    private List<NotificationView> items;
+    private String nextCursor;      // null on the last page
+}
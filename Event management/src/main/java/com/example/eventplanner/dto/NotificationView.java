@@ -0,0 +1,21 @@
+// dto/NotificationView.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.Notification;
+import lombok.*;
+import java.time.OffsetDateTime;
+
+/** Flat notification payload pushed to the browser (no entity graph to serialize). */
+@Getter @AllArgsConstructor
+public class NotificationView {
+    private Long id;
+    private String title;
+    private String message;
+    private String type;
+    private OffsetDateTime createdAt;
+    private boolean read;
+
+    public static NotificationView of(Notification n) {
+        return new NotificationView(n.getId(), n.getTitle(), n.getMessage(), n.getType(), n.getCreatedAt(), n.isReadFlag());
+    }
+}
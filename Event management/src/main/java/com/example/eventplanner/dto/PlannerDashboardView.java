@@ -0,0 +1,15 @@
+// dto/PlannerDashboardView.java
+package com.example.eventplanner.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.Map;
+
+/** What the planner dashboard renders, read from the planner_dashboard row. */
+@Getter @AllArgsConstructor
+public class PlannerDashboardView {
+    private Map<String, Long> stats;             // same keys as EventService.statsFor
+    private long unreadCount;
+    private List<EventListItem> recentEvents;
+    private List<EventListItem> upcomingEvents;
+}
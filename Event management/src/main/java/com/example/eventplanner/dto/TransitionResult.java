@@ -0,0 +1,37 @@
+// dto/TransitionResult.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.domain.enums.EventTransition;
+import lombok.*;
+
+import java.util.Set;
+
+/**
+ * Outcome of a single status change. A conflict means the conditional UPDATE matched no row:
+ * the event is unknown, not the caller's, or no longer in one of {@code expected}
+ * (usually because someone else moved it first). Nothing was changed in that case.
+ */
+@Getter @AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransitionResult {
+    private Long eventId;
+    private EventTransition transition;
+    private boolean applied;
+    private EventStatus status;              // new status when applied
+    private Set<EventStatus> expected;       // states the transition may start from
+
+    public static TransitionResult applied(Long id, EventTransition t) {
+        return new TransitionResult(id, t, true, t.to(), t.from());
+    }
+
+    public static TransitionResult conflict(Long id, EventTransition t) {
+        return new TransitionResult(id, t, false, null, t.from());
+    }
+
+    public String getMessage() {
+        return applied
+                ? "Event " + eventId + " is now " + status
+                : "Event " + eventId + " was not moved to " + transition.to() + ": it must be one of " + expected
+                  + " and may have been changed by someone else";
+    }
+}
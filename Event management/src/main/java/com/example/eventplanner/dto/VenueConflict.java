@@ -0,0 +1,14 @@
+// dto/VenueConflict.java
+package com.example.eventplanner.dto;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+import lombok.*;
+import java.time.LocalDate;
+
+/** Another event already booked at the same venue on the same date. */
+@Getter @AllArgsConstructor
+public class VenueConflict {
+    private Long eventId;
+    private LocalDate eventDate;
+    private EventStatus status;
+}
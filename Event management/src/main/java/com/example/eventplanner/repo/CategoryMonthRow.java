@@ -0,0 +1,12 @@
+// repo/CategoryMonthRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+
+/** Events created per category in one month (analytics rollups). */
+public interface CategoryMonthRow {
+    int getYr();
+    int getMon();
+    EventCategory getCategory();
+    long getCreated();
+}
@@ -0,0 +1,26 @@
+// repo/EventExportRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/** Flat, read-only row streamed by the admin export. */
+public interface EventExportRow {
+    Long getId();
+    String getTitle();
+    LocalDate getEventDate();
+    String getVenue();
+    EventCategory getCategory();
+    EventStatus getStatus();
+    Long getPlannerId();
+    String getPlannerName();
+    String getPlannerEmail();
+    String getDescription();
+    String getRejectionReason();
+    OffsetDateTime getCreatedAt();
+    OffsetDateTime getSubmittedAt();
+    OffsetDateTime getPublishedAt();
+}
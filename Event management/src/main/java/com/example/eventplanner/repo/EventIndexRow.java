@@ -0,0 +1,19 @@
+// repo/EventIndexRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+
+import java.time.LocalDate;
+
+/** The columns the in-process search index needs (no planner entity, no lazy state). */
+public interface EventIndexRow {
+    Long getId();
+    Long getPlannerId();
+    String getTitle();
+    String getVenue();
+    String getDescription();
+    EventCategory getCategory();
+    EventStatus getStatus();
+    LocalDate getEventDate();
+}
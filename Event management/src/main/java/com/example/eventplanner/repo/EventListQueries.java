@@ -0,0 +1,13 @@
+// repo/EventListQueries.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.dto.EventListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Criteria-built list queries that select {@link EventListItem} columns only. */
+public interface EventListQueries {
+    Page<EventListItem> findListItems(Specification<Event> spec, Pageable pageable);
+}
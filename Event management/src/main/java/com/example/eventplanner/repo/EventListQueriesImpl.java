@@ -0,0 +1,55 @@
+// repo/EventListQueriesImpl.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.dto.EventListItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class EventListQueriesImpl implements EventListQueries {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<EventListItem> findListItems(Specification<Event> spec, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<EventListItem> cq = cb.createQuery(EventListItem.class);
+        Root<Event> e = cq.from(Event.class);
+        Join<Event, Staff> p = e.join("planner");
+        cq.select(cb.construct(EventListItem.class,
+                e.get("id"), e.get("title"), e.get("eventDate"), e.get("venue"), e.get("category"),
+                e.get("status"), e.get("rejectionReason"), e.get("createdAt"), p.get("id"), p.get("name")));
+        Predicate where = spec == null ? null : spec.toPredicate(e, cq, cb);
+        if (where != null) cq.where(where);
+        if (pageable.getSort().isSorted()) cq.orderBy(QueryUtils.toOrders(pageable.getSort(), e, cb));
+
+        var query = em.createQuery(cq);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<EventListItem> content = query.getResultList();
+
+        // skip the count when the first page is not full
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize())) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<Event> c = count.from(Event.class);
+        count.select(cb.count(c));
+        Predicate countWhere = spec == null ? null : spec.toPredicate(c, count, cb);
+        if (countWhere != null) count.where(countWhere);
+        return new PageImpl<>(content, pageable, em.createQuery(count).getSingleResult());
+    }
+}
@@ -4,35 +4,207 @@ import java.util.Optional;
 import java.util.List;
 import com.example.eventplanner.domain.*;
 import com.example.eventplanner.domain.enums.*;
+import com.example.eventplanner.dto.EventListItem;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+public interface EventRepository extends JpaRepository<Event,Long>, JpaSpecificationExecutor<Event>, EventListQueries {
+
+    // List rows: only the table columns + planner name, one select, no entity hydration
+    String LIST_ITEM = "new com.example.eventplanner.dto.EventListItem(e.id, e.title, e.eventDate, e.venue, "
+            + "e.category, e.status, e.rejectionReason, e.createdAt, p.id, p.name)";
 
-public interface EventRepository extends JpaRepository<Event,Long> {
-    // NEW: for My Events default list
-    List<Event> findByPlannerOrderByCreatedAtDesc(Staff planner);
+    // My Events default list / recent events (pass a page size to limit)
+    @Query("select " + LIST_ITEM + " from Event e join e.planner p where e.planner = :planner order by e.createdAt desc")
+    List<EventListItem> findListItemsByPlanner(@Param("planner") Staff planner, Pageable page);
+
+    // Detail views that show the planner: one select with the join
+    @EntityGraph(attributePaths = "planner")
+    Optional<Event> findWithPlannerById(Long id);
 
     // NEW: secure lookup
     Optional<Event> findByIdAndPlanner(Long id, Staff planner);
 
-        List<Event> findTop10ByPlannerOrderByCreatedAtDesc(Staff planner);
-    List<Event> findByPlannerAndStatus(Staff planner, EventStatus status);
-
-    @Query("""
-    select e from Event e
+    @Query("select " + LIST_ITEM + """
+     from Event e join e.planner p
     where e.planner = :planner
       and (:status is null or e.status = :status)
       and (:category is null or e.category = :category)
       and (:fromDate is null or e.eventDate >= :fromDate)
     order by e.createdAt desc
   """)
-    List<Event> filter(@Param("planner") Staff planner,
-                       @Param("status") EventStatus status,
-                       @Param("category") EventCategory category,
-                       @Param("fromDate") LocalDate fromDate);
+    List<EventListItem> filter(@Param("planner") Staff planner,
+                               @Param("status") EventStatus status,
+                               @Param("category") EventCategory category,
+                               @Param("fromDate") LocalDate fromDate);
+
+    // Admin pending queue / status lists (backed by idx_events_status_created)
+    @Query(value = "select " + LIST_ITEM + " from Event e join e.planner p where e.status = :status",
+           countQuery = "select count(e) from Event e where e.status = :status")
+    Page<EventListItem> findListItemsByStatus(@Param("status") EventStatus status, Pageable pageable);
+
+    long countByPlanner_Id(Long plannerId);
+
+    @Query("""
+    select e.planner.id as plannerId, count(e) as eventCount
+    from Event e
+    where e.planner.id in :plannerIds
+    group by e.planner.id
+  """)
+    List<PlannerEventCount> countGroupedByPlanner(@Param("plannerIds") Collection<Long> plannerIds);
+
+    // Status transitions: row lock so the "from" status we read is the one we overwrite
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    // Single-row transition: one conditional UPDATE, 0 rows when the state (or owner) does not match
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    update versioned Event e
+    set e.status = :to, e.updatedAt = :now,
+        e.submittedAt = coalesce(:submittedAt, e.submittedAt),
+        e.publishedAt = coalesce(:publishedAt, e.publishedAt),
+        e.rejectionReason = coalesce(:reason, e.rejectionReason)
+    where e.id = :id and e.status in :from and (:plannerId is null or e.planner.id = :plannerId)
+  """)
+    int transition(@Param("id") Long id,
+                   @Param("plannerId") Long plannerId,
+                   @Param("from") Collection<EventStatus> from,
+                   @Param("to") EventStatus to,
+                   @Param("submittedAt") OffsetDateTime submittedAt,
+                   @Param("publishedAt") OffsetDateTime publishedAt,
+                   @Param("reason") String reason,
+                   @Param("now") OffsetDateTime now);
+
+    // Auto-completion candidates, oldest first (idx_events_status_event_date)
+    @Query("select e.id from Event e where e.status = :status and e.eventDate < :before order by e.eventDate, e.id")
+    List<Long> findIdsByStatusBefore(@Param("status") EventStatus status,
+                                     @Param("before") LocalDate before,
+                                     Pageable page);
+
+    // Bulk transitions: lock the rows still in a source status, then one set-based UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id in :ids and e.status in :from")
+    List<Event> lockAllByIdInAndStatusIn(@Param("ids") Collection<Long> ids, @Param("from") Collection<EventStatus> from);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    update versioned Event e
+    set e.status = :to, e.rejectionReason = coalesce(:reason, e.rejectionReason), e.updatedAt = :now,
+        e.publishedAt = case when :to = com.example.eventplanner.domain.enums.EventStatus.PUBLISHED then :now else e.publishedAt end
+    where e.id in :ids and e.status in :from
+  """)
+    int bulkTransition(@Param("ids") Collection<Long> ids,
+                       @Param("from") Collection<EventStatus> from,
+                       @Param("to") EventStatus to,
+                       @Param("reason") String reason,
+                       @Param("now") OffsetDateTime now);
+
+    // Conditional GET on the admin event modal: version and owner, no entity load
+    @Query("select e.planner.id as plannerId, e.version as version, e.updatedAt as updatedAt from Event e where e.id = :id")
+    Optional<EventVersionRow> findVersionById(@Param("id") Long id);
+
+    // Planner dashboard stats and read model: every status bucket in one query
+    @Query("""
+    select e.status as status, count(e) as total
+    from Event e
+    where e.planner.id = :plannerId
+    group by e.status
+  """)
+    List<StatusCount> countByStatusForPlanner(@Param("plannerId") Long plannerId);
+
+    @Query("select " + LIST_ITEM + " from Event e join e.planner p where p.id = :plannerId order by e.createdAt desc, e.id desc")
+    List<EventListItem> findRecentListItems(@Param("plannerId") Long plannerId, Pageable page);
+
+    @Query("select " + LIST_ITEM + """
+     from Event e join e.planner p
+    where p.id = :plannerId and e.status in :statuses and e.eventDate >= :from
+    order by e.eventDate, e.id
+  """)
+    List<EventListItem> findUpcomingListItems(@Param("plannerId") Long plannerId,
+                                              @Param("statuses") Collection<EventStatus> statuses,
+                                              @Param("from") LocalDate from,
+                                              Pageable page);
+
+    // Search index: keyset scan for (re)building, id lookup for hits
+    @Query("""
+    select e.id as id, e.planner.id as plannerId, e.title as title, e.venue as venue,
+           e.description as description, e.category as category, e.status as status, e.eventDate as eventDate
+    from Event e
+    where e.id > :afterId
+    order by e.id
+  """)
+    List<EventIndexRow> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    @Query("select " + LIST_ITEM + " from Event e join e.planner p where e.id in :ids")
+    List<EventListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Admin export: same filters as the dashboard, streamed with a JDBC fetch size
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("""
+    select e.id as id, e.title as title, e.eventDate as eventDate, e.venue as venue,
+           e.category as category, e.status as status,
+           p.id as plannerId, p.name as plannerName, p.email as plannerEmail,
+           e.description as description, e.rejectionReason as rejectionReason,
+           e.createdAt as createdAt, e.submittedAt as submittedAt, e.publishedAt as publishedAt
+    from Event e join e.planner p
+    where (:status is null or e.status = :status)
+      and (:category is null or e.category = :category)
+      and (:plannerId is null or p.id = :plannerId)
+      and (:fromDate is null or e.eventDate >= :fromDate)
+      and (:toDate is null or e.eventDate <= :toDate)
+    order by e.id
+  """)
+    Stream<EventExportRow> streamForExport(@Param("status") EventStatus status,
+                                           @Param("category") EventCategory category,
+                                           @Param("plannerId") Long plannerId,
+                                           @Param("fromDate") LocalDate fromDate,
+                                           @Param("toDate") LocalDate toDate);
+
+    // Analytics rollups: keys of transitioned events, and a streamed scan for the backfill
+    @Query("""
+    select e.id as id, e.planner.id as plannerId, e.category as category, e.status as status,
+           e.createdAt as createdAt, e.submittedAt as submittedAt, e.publishedAt as publishedAt, e.updatedAt as updatedAt
+    from Event e
+    where e.id in :ids
+  """)
+    List<RollupSourceRow> findRollupSourceByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("""
+    select e.id as id, e.planner.id as plannerId, e.category as category, e.status as status,
+           e.createdAt as createdAt, e.submittedAt as submittedAt, e.publishedAt as publishedAt, e.updatedAt as updatedAt
+    from Event e
+  """)
+    Stream<RollupSourceRow> streamRollupSource();
+
+    // Venue conflict index: keyset scan over events that hold a venue
+    @Query("""
+    select e.id as id, e.venue as venue, e.eventDate as eventDate, e.status as status
+    from Event e
+    where e.id > :afterId and e.status in :statuses
+    order by e.id
+  """)
+    List<VenueSlotRow> findVenueSlotsAfter(@Param("afterId") Long afterId,
+                                           @Param("statuses") Collection<EventStatus> statuses,
+                                           Pageable page);
 
-    long countByPlanner(Staff planner);
-    long countByPlannerAndStatus(Staff planner, EventStatus status);
+    @Query("select e.id as id, e.venue as venue, e.eventDate as eventDate, e.status as status from Event e where e.id in :ids")
+    List<VenueSlotRow> findVenueSlotsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,27 @@
+// repo/EventRollupDeltaRepository.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.EventRollupDelta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EventRollupDeltaRepository extends JpaRepository<EventRollupDelta, Long> {
+
+    // Oldest deltas; SKIP LOCKED (-2) so a folding request and the background folder never wait on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select d from EventRollupDelta d order by d.id")
+    List<EventRollupDelta> lockBatch(Pageable page);
+
+    @Query("select coalesce(max(d.id), 0) from EventRollupDelta d")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from EventRollupDelta d where d.id <= :maxId")
+    int deleteUpTo(@Param("maxId") long maxId);
+}
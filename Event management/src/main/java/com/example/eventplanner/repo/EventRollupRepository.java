@@ -0,0 +1,57 @@
+// repo/EventRollupRepository.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.EventRollup;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface EventRollupRepository extends JpaRepository<EventRollup, Long> {
+
+    // Folding: add to an existing row; 0 when the key has no row yet
+    @Modifying
+    @Query("""
+    update EventRollup r
+    set r.created = r.created + :created, r.entered = r.entered + :entered,
+        r.latencySeconds = r.latencySeconds + :latencySeconds, r.latencyCount = r.latencyCount + :latencyCount
+    where r.day = :day and r.plannerId = :plannerId and r.category = :category and r.status = :status
+  """)
+    int add(@Param("day") LocalDate day,
+            @Param("plannerId") Long plannerId,
+            @Param("category") EventCategory category,
+            @Param("status") EventStatus status,
+            @Param("created") long created,
+            @Param("entered") long entered,
+            @Param("latencySeconds") long latencySeconds,
+            @Param("latencyCount") long latencyCount);
+
+    // Analytics: range scans on the (day, ...) unique key, grouped in the database
+    @Query("""
+    select extract(year from r.day) as yr, extract(month from r.day) as mon, r.category as category,
+           sum(r.created) as created
+    from EventRollup r
+    where r.day between :from and :to
+    group by extract(year from r.day), extract(month from r.day), r.category
+    order by 1, 2, 3
+  """)
+    List<CategoryMonthRow> sumCreatedByMonthAndCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+    select r.plannerId as plannerId, r.status as status, sum(r.entered) as entered,
+           sum(r.latencySeconds) as latencySeconds, sum(r.latencyCount) as latencyCount
+    from EventRollup r
+    where r.day between :from and :to
+    group by r.plannerId, r.status
+  """)
+    List<PlannerStatusRow> sumByPlannerAndStatus(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from EventRollup r")
+    int deleteAllRows();
+}
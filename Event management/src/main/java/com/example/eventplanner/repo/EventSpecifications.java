@@ -0,0 +1,71 @@
+// repo/EventSpecifications.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** Composable filters for {@link EventRepository#findAll(Specification, org.springframework.data.domain.Pageable)}. */
+public final class EventSpecifications {
+
+    private EventSpecifications() {}
+
+    public static Specification<Event> hasStatus(EventStatus status) {
+        return (root, q, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Event> hasCategory(EventCategory category) {
+        return (root, q, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    /** Compares the FK column directly so the planner row is not joined just to filter. */
+    public static Specification<Event> hasPlannerId(Long plannerId) {
+        return (root, q, cb) -> plannerId == null ? null : cb.equal(root.get("planner").get("id"), plannerId);
+    }
+
+    public static Specification<Event> onOrAfter(LocalDate fromDate) {
+        return (root, q, cb) -> fromDate == null ? null : cb.greaterThanOrEqualTo(root.get("eventDate"), fromDate);
+    }
+
+    public static Specification<Event> onOrBefore(LocalDate toDate) {
+        return (root, q, cb) -> toDate == null ? null : cb.lessThanOrEqualTo(root.get("eventDate"), toDate);
+    }
+
+    /**
+     * Every word of {@code text} appears in the title, venue or description (case-insensitive).
+     * Unranked substring match; only used while the in-memory search index is still building.
+     */
+    public static Specification<Event> containsWords(String text) {
+        return (root, q, cb) -> {
+            if (text == null || text.isBlank()) return null;
+            List<Predicate> all = new ArrayList<>();
+            for (String w : text.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+                String like = "%" + w.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                all.add(cb.or(cb.like(cb.lower(root.get("title")), like, '\\'),
+                        cb.like(cb.lower(root.get("venue")), like, '\\'),
+                        cb.like(cb.lower(root.get("description")), like, '\\')));
+            }
+            return cb.and(all.toArray(Predicate[]::new));
+        };
+    }
+
+    /** Admin dashboard filter: every argument is optional, null means "any". */
+    public static Specification<Event> adminFilter(EventStatus status,
+                                                   EventCategory category,
+                                                   Long plannerId,
+                                                   LocalDate fromDate,
+                                                   LocalDate toDate) {
+        return Specification.where(hasStatus(status))
+                .and(hasCategory(category))
+                .and(hasPlannerId(plannerId))
+                .and(onOrAfter(fromDate))
+                .and(onOrBefore(toDate));
+    }
+}
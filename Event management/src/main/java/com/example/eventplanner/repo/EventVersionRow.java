@@ -0,0 +1,11 @@
+// repo/EventVersionRow.java
+package com.example.eventplanner.repo;
+
+import java.time.OffsetDateTime;
+
+/** Just enough of an event to answer a conditional GET without loading it. */
+public interface EventVersionRow {
+    Long getPlannerId();
+    long getVersion();
+    OffsetDateTime getUpdatedAt();
+}
@@ -0,0 +1,8 @@
+// repo/NotificationKeyRow.java
+package com.example.eventplanner.repo;
+
+/** Id and recipient of a notification, for batch jobs that must tell whose views changed. */
+public interface NotificationKeyRow {
+    Long getId();
+    Long getRecipientId();
+}
@@ -0,0 +1,16 @@
+// repo/NotificationOutboxRepository.java
+package com.example.eventplanner.repo;
+import com.example.eventplanner.domain.*;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import java.util.List;
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox,Long> {
+
+    // Oldest pending rows; SKIP LOCKED (-2) lets several dispatchers drain side by side
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o order by o.id")
+    List<NotificationOutbox> lockBatch(Pageable page);
+}
@@ -2,8 +2,65 @@
 package com.example.eventplanner.repo;
 import com.example.eventplanner.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.example.eventplanner.dto.NotificationView;
+import org.springframework.data.domain.Pageable;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification,Long> {
     List<Notification> findTop20ByRecipientOrderByCreatedAtDesc(Staff recipient);
     long countByRecipientAndReadFlagFalse(Staff recipient);
+    long countByRecipientIdAndReadFlagFalse(Long recipientId);
+
+    @Modifying
+    @Query("""
+    update versioned Notification n set n.readFlag = true, n.updatedAt = :now
+    where n.recipient = :recipient and n.readFlag = false
+  """)
+    int markAllRead(@Param("recipient") Staff recipient, @Param("now") OffsetDateTime now);
+
+    // Single-statement mark-read, scoped to the recipient; returns how many were unread
+    @Modifying
+    @Query("""
+    update versioned Notification n set n.readFlag = true, n.updatedAt = :now
+    where n.id in :ids and n.recipient.id = :recipientId and n.readFlag = false
+  """)
+    int markRead(@Param("recipientId") Long recipientId, @Param("ids") Collection<Long> ids, @Param("now") OffsetDateTime now);
+
+    // History, newest first, keyset-paged on (recipient_id, created_at, id)
+    @Query("""
+    select new com.example.eventplanner.dto.NotificationView(n.id, n.title, n.message, n.type, n.createdAt, n.readFlag)
+    from Notification n where n.recipient.id = :recipientId
+    order by n.createdAt desc, n.id desc
+  """)
+    List<NotificationView> findHistory(@Param("recipientId") Long recipientId, Pageable page);
+
+    @Query("""
+    select new com.example.eventplanner.dto.NotificationView(n.id, n.title, n.message, n.type, n.createdAt, n.readFlag)
+    from Notification n where n.recipient.id = :recipientId
+      and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+    order by n.createdAt desc, n.id desc
+  """)
+    List<NotificationView> findHistoryBefore(@Param("recipientId") Long recipientId,
+                                             @Param("createdAt") OffsetDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable page);
+
+    // Retention: read notifications older than the cutoff, in id order
+    @Query("select n.id as id, n.recipient.id as recipientId from Notification n where n.readFlag = true and n.createdAt < :cutoff order by n.id")
+    List<NotificationKeyRow> findReadBefore(@Param("cutoff") OffsetDateTime cutoff, Pageable page);
+
+    @Modifying
+    @Query("""
+    insert into NotificationArchive (id, recipientId, title, message, type, createdAt, archivedAt)
+    select n.id, n.recipient.id, n.title, n.message, n.type, n.createdAt, :now from Notification n where n.id in :ids
+  """)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,26 @@
+// repo/PlannerDashboardRepository.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.PlannerDashboard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PlannerDashboardRepository extends JpaRepository<PlannerDashboard, Long> {
+
+    // Planners whose dashboard row was never built
+    @Query("""
+    select s.id from Staff s
+    where s.role = com.example.eventplanner.domain.enums.Role.PLANNER
+      and not exists (select 1 from PlannerDashboard d where d.plannerId = s.id)
+  """)
+    List<Long> findPlannersWithoutDashboard();
+
+    @Query("select s.id from Staff s where s.role = com.example.eventplanner.domain.enums.Role.PLANNER order by s.id")
+    List<Long> findAllPlannerIds();
+
+    @Query("select count(s) > 0 from Staff s where s.id = :id and s.role = com.example.eventplanner.domain.enums.Role.PLANNER")
+    boolean isPlanner(@Param("id") Long id);
+}
@@ -0,0 +1,8 @@
+// repo/PlannerEventCount.java
+package com.example.eventplanner.repo;
+
+/** Row of the "events per planner" aggregate. */
+public interface PlannerEventCount {
+    Long getPlannerId();
+    long getEventCount();
+}
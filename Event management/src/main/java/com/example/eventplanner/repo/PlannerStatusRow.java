@@ -0,0 +1,13 @@
+// repo/PlannerStatusRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+
+/** How many of a planner's events entered a status, and decision latency (analytics rollups). */
+public interface PlannerStatusRow {
+    Long getPlannerId();
+    EventStatus getStatus();
+    long getEntered();
+    long getLatencySeconds();
+    long getLatencyCount();
+}
@@ -0,0 +1,18 @@
+// repo/RollupSourceRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import java.time.OffsetDateTime;
+
+/** The columns of an event the analytics rollups are derived from. */
+public interface RollupSourceRow {
+    Long getId();
+    Long getPlannerId();
+    EventCategory getCategory();
+    EventStatus getStatus();
+    OffsetDateTime getCreatedAt();
+    OffsetDateTime getSubmittedAt();
+    OffsetDateTime getPublishedAt();
+    OffsetDateTime getUpdatedAt();
+}
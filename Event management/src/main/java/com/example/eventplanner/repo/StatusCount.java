@@ -0,0 +1,10 @@
+// repo/StatusCount.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+
+/** Row of the "events per status" aggregate. */
+public interface StatusCount {
+    EventStatus getStatus();
+    long getTotal();
+}
@@ -0,0 +1,14 @@
+// repo/VenueSlotRow.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+
+import java.time.LocalDate;
+
+/** Where and when an event takes place, for the venue conflict index. */
+public interface VenueSlotRow {
+    Long getId();
+    String getVenue();
+    LocalDate getEventDate();
+    EventStatus getStatus();
+}
@@ -0,0 +1,13 @@
+// service/CacheInvalidationTransport.java
+package com.example.eventplanner.service;
+
+/**
+ * Hook for keeping {@link LocalCache}s coherent across app nodes. Define a bean that ships
+ * {@code (cache, key)} to the other nodes (Redis pub/sub, Postgres NOTIFY, ...); on receipt
+ * they call {@link CacheRegistry#invalidateLocal}. Without such a bean caches are node-local.
+ */
+public interface CacheInvalidationTransport {
+
+    /** Called after commit for every invalidation made on this node; {@code key == null} means the whole cache. */
+    void broadcast(String cache, Object key);
+}
@@ -0,0 +1,88 @@
+// service/CacheRegistry.java
+package com.example.eventplanner.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Named {@link LocalCache}s of this node. Invalidation is applied now and again after commit
+ * (a reader may have reloaded the old row in between), then passed to the optional
+ * {@link CacheInvalidationTransport} so other nodes drop the same entry.
+ */
+@Component
+public class CacheRegistry {
+
+    private final Map<String, LocalCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<Object>> listeners = new ConcurrentHashMap<>();
+    private final ObjectProvider<CacheInvalidationTransport> transport;
+    private final MeterRegistry registry;
+
+    public CacheRegistry(ObjectProvider<CacheInvalidationTransport> transport, MeterRegistry registry) {
+        this.transport = transport;
+        this.registry = registry;
+    }
+
+    public <K, V> LocalCache<K, V> create(String name, int maxSize, Duration ttl) {
+        LocalCache<K, V> cache = new LocalCache<>(name, maxSize, ttl);
+        if (caches.putIfAbsent(name, cache) != null) throw new IllegalStateException("Duplicate cache " + name);
+        String help = "Local cache lookups by result";
+        FunctionCounter.builder("app.cache.requests", cache, c -> c.stats().hits())
+                .description(help).tags("cache", name, "result", "hit").register(registry);
+        FunctionCounter.builder("app.cache.requests", cache, c -> c.stats().misses())
+                .description(help).tags("cache", name, "result", "miss").register(registry);
+        Gauge.builder("app.cache.size", cache, c -> c.stats().size())
+                .description("Entries held by a local cache").tag("cache", name).register(registry);
+        return cache;
+    }
+
+    /** Drops {@code key} (or everything when null) here, after commit, and on other nodes. */
+    public <K> void invalidate(LocalCache<K, ?> cache, K key) {
+        invalidateLocal(cache.name(), key);
+        TxHooks.afterCommit(() -> {
+            invalidateLocal(cache.name(), key);
+            broadcast(cache.name(), key);
+        });
+    }
+
+    /**
+     * Other per-node state that must follow writes made on other nodes (e.g. view versions):
+     * {@code listener} gets the key of every invalidation received under {@code name}.
+     */
+    public void onInvalidate(String name, Consumer<Object> listener) {
+        if (listeners.putIfAbsent(name, listener) != null) throw new IllegalStateException("Duplicate listener " + name);
+    }
+
+    /** Passes {@code (name, key)} to the other nodes only; a no-op without a transport. */
+    public void broadcast(String name, Object key) {
+        CacheInvalidationTransport t = transport.getIfAvailable();
+        if (t != null) t.broadcast(name, key);
+    }
+
+    /** Entry point for invalidations received from other nodes. */
+    @SuppressWarnings("unchecked")
+    public void invalidateLocal(String name, Object key) {
+        LocalCache<Object, ?> cache = (LocalCache<Object, ?>) caches.get(name);
+        if (cache == null) {
+            Consumer<Object> listener = listeners.get(name);
+            if (listener != null) listener.accept(key);
+            return;
+        }
+        if (key == null) cache.invalidateAll();
+        else cache.invalidate(key);
+    }
+
+    public Map<String, LocalCache.Stats> stats() {
+        Map<String, LocalCache.Stats> out = new TreeMap<>();
+        caches.forEach((name, c) -> out.put(name, c.stats()));
+        return out;
+    }
+}
@@ -0,0 +1,122 @@
+// service/EntityCaches.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.EventListItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches for the rows and lookups the admin screens hit on every render:
+ * staff by id, the staff list, event (with planner) by id, and pages of the pending queue.
+ * Cached entities are detached and shared: callers only read them (lazy collections such as
+ * {@code Staff.events} are not loaded), writes go through a fresh load. Events are handed
+ * out as copies (planner included), so a caller that changes one cannot alter the cached row.
+ */
+@Component
+public class EntityCaches {
+
+    private static final String ALL = "all";
+
+    private final CacheRegistry registry;
+    private final LocalCache<Long, Staff> staffById;
+    private final LocalCache<String, List<Staff>> staffList;
+    private final LocalCache<Long, Event> eventById;
+    private final LocalCache<Pageable, Page<EventListItem>> pendingQueue;
+
+    public EntityCaches(CacheRegistry registry,
+                        @Value("${app.cache.max-size:10000}") int maxSize,
+                        @Value("${app.cache.ttl-seconds:300}") long ttlSeconds,
+                        @Value("${app.cache.queue-ttl-seconds:30}") long queueTtlSeconds) {
+        this.registry = registry;
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.staffById = registry.create("staff.byId", maxSize, ttl);
+        this.staffList = registry.create("staff.list", 1, ttl);
+        this.eventById = registry.create("event.byId", maxSize, ttl);
+        this.pendingQueue = registry.create("event.pendingQueue", 100, Duration.ofSeconds(queueTtlSeconds));
+    }
+
+    public Staff staff(Long id, Function<Long, Staff> loader) {
+        return staffById.get(id, loader);
+    }
+
+    public List<Staff> allStaff(Supplier<List<Staff>> loader) {
+        return staffList.get(ALL, k -> List.copyOf(loader.get()));
+    }
+
+    public Event event(Long id, Function<Long, Event> loader) {
+        Event cached = eventById.get(id, loader);
+        return cached == null ? null : copyOf(cached);
+    }
+
+    public Page<EventListItem> pendingQueue(Pageable pageable, Function<Pageable, Page<EventListItem>> loader) {
+        return pendingQueue.get(pageable, loader);
+    }
+
+    public void staffChanged(Long id) {
+        if (id != null) registry.invalidate(staffById, id);
+        registry.invalidate(staffList, null);
+        registry.invalidate(eventById, null);      // cached events carry their planner
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        List<Long> changed = changes.changes().stream()
+                .filter(c -> c.kind() != EventChanged.Kind.CREATED).map(EventChanged::id).toList();
+        if (!changed.isEmpty()) eventsChanged(changed);
+        else if (changes.of(EventChanged.Kind.CREATED).stream().anyMatch(c -> c.to() == EventStatus.PENDING)) eventCreated();
+    }
+
+    private static Event copyOf(Event e) {
+        Event c = new Event();
+        c.setId(e.getId());
+        c.setPlanner(e.getPlanner() == null ? null : copyOf(e.getPlanner()));
+        c.setTitle(e.getTitle());
+        c.setEventDate(e.getEventDate());
+        c.setVenue(e.getVenue());
+        c.setCategory(e.getCategory());
+        c.setDescription(e.getDescription());
+        c.setStatus(e.getStatus());
+        c.setRejectionReason(e.getRejectionReason());
+        c.setCreatedAt(e.getCreatedAt());
+        c.setSubmittedAt(e.getSubmittedAt());
+        c.setPublishedAt(e.getPublishedAt());
+        c.setVersion(e.getVersion());
+        c.setUpdatedAt(e.getUpdatedAt());
+        return c;
+    }
+
+    /** Display fields only: no password hash, no events collection. */
+    private static Staff copyOf(Staff s) {
+        Staff c = new Staff();
+        c.setId(s.getId());
+        c.setEmail(s.getEmail());
+        c.setName(s.getName());
+        c.setRole(s.getRole());
+        c.setActive(s.getActive());
+        c.setVersion(s.getVersion());
+        c.setUpdatedAt(s.getUpdatedAt());
+        return c;
+    }
+
+    public void eventsChanged(Collection<Long> ids) {
+        for (Long id : ids) registry.invalidate(eventById, id);
+        registry.invalidate(pendingQueue, null);
+    }
+
+    /** A new event may land in the pending queue; nothing cached by id yet. */
+    public void eventCreated() {
+        registry.invalidate(pendingQueue, null);
+    }
+}
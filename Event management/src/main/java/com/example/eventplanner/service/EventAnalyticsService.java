@@ -0,0 +1,231 @@
+// service/EventAnalyticsService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.AnalyticsReport;
+import com.example.eventplanner.repo.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Admin analytics kept as rollups by day, planner, category and status entered
+ * ({@link com.example.eventplanner.domain.EventRollup}). Every creation and status transition
+ * appends a delta in the writer's transaction; {@link EventRollupFolder} folds them in, and
+ * reports fold what is still queued before reading, so a report is two grouped range scans.
+ *
+ * {@link #backfill()} rebuilds the rollups from {@code events}. History before rollups existed
+ * is approximate: rejections, cancellations and completions are dated by {@code updatedAt},
+ * and approvals of events without {@code publishedAt} have no latency.
+ */
+@Slf4j
+@Service
+public class EventAnalyticsService {
+
+    private static final String INSERT_DELTA = "insert into event_rollup_deltas "
+            + "(day, planner_id, category, status, created, entered, latency_seconds, latency_count) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ROLLUP = "insert into event_rollups "
+            + "(day, planner_id, category, status, created, entered, latency_seconds, latency_count) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private record Key(LocalDate day, Long plannerId, EventCategory category, EventStatus status) {}
+
+    /** created, entered, latencySeconds, latencyCount per key. */
+    private static final class Sums extends LinkedHashMap<Key, long[]> {
+        void add(Key k, long created, long entered, Long latencySeconds) {
+            long[] s = computeIfAbsent(k, x -> new long[4]);
+            s[0] += created;
+            s[1] += entered;
+            if (latencySeconds != null) {
+                s[2] += latencySeconds;
+                s[3]++;
+            }
+        }
+    }
+
+    private final EventRepository events;
+    private final EventRollupRepository rollups;
+    private final EventRollupDeltaRepository deltas;
+    private final EventRollupFolder folder;
+    private final StaffService staffService;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public EventAnalyticsService(EventRepository events, EventRollupRepository rollups,
+                                 EventRollupDeltaRepository deltas, EventRollupFolder folder,
+                                 StaffService staffService, JdbcTemplate jdbc, PlatformTransactionManager txManager) {
+        this.events = events;
+        this.rollups = rollups;
+        this.deltas = deltas;
+        this.folder = folder;
+        this.staffService = staffService;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    // ===== Recording (inside the writer's transaction) =======================
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        List<Event> created = changes.of(EventChanged.Kind.CREATED).stream().map(EventChanged::row).toList();
+        if (!created.isEmpty()) created(created);
+        changes.movedIdsByTo().forEach((to, ids) -> transitioned(ids, to));
+    }
+
+    /** New events, counted in the status they were created in. */
+    public void created(Collection<Event> created) {
+        Sums sums = new Sums();
+        LocalDate today = LocalDate.now();
+        for (Event e : created) {
+            sums.add(new Key(today, e.getPlanner().getId(), e.getCategory(), e.getStatus()), 1, 1, null);
+        }
+        insert(INSERT_DELTA, sums);
+    }
+
+    /** Events that just moved to {@code to}; keys are read back from the updated rows. */
+    public void transitioned(Collection<Long> ids, EventStatus to) {
+        if (ids.isEmpty()) return;
+        OffsetDateTime now = OffsetDateTime.now();
+        LocalDate today = LocalDate.now();
+        Sums sums = new Sums();
+        for (RollupSourceRow r : events.findRollupSourceByIdIn(ids)) {
+            sums.add(new Key(today, r.getPlannerId(), r.getCategory(), to), 0, 1,
+                     decisionLatency(to, r.getSubmittedAt(), now));
+        }
+        insert(INSERT_DELTA, sums);
+    }
+
+    private static Long decisionLatency(EventStatus to, OffsetDateTime submittedAt, OffsetDateTime decidedAt) {
+        if (submittedAt == null || decidedAt == null) return null;
+        if (to != EventStatus.PUBLISHED && to != EventStatus.REJECTED) return null;
+        return Math.max(0, Duration.between(submittedAt, decidedAt).getSeconds());
+    }
+
+    // ===== Reports ===========================================================
+
+    /** Creations per category and month, per-planner approval/rejection rates and time to approval. */
+    public AnalyticsReport report(LocalDate from, LocalDate to) {
+        folder.foldAll();
+
+        List<AnalyticsReport.CategoryMonth> byCategory = rollups.sumCreatedByMonthAndCategory(from, to).stream()
+                .map(r -> new AnalyticsReport.CategoryMonth(String.format("%04d-%02d", r.getYr(), r.getMon()),
+                        r.getCategory(), r.getCreated()))
+                .collect(Collectors.toList());
+
+        Map<Long, Map<EventStatus, PlannerStatusRow>> byPlanner = new TreeMap<>();
+        Map<EventStatus, Long> entered = new EnumMap<>(EventStatus.class);
+        long approvalSeconds = 0, approvals = 0;
+        for (PlannerStatusRow r : rollups.sumByPlannerAndStatus(from, to)) {
+            byPlanner.computeIfAbsent(r.getPlannerId(), k -> new EnumMap<>(EventStatus.class)).put(r.getStatus(), r);
+            entered.merge(r.getStatus(), r.getEntered(), Long::sum);
+            if (r.getStatus() == EventStatus.PUBLISHED) {
+                approvalSeconds += r.getLatencySeconds();
+                approvals += r.getLatencyCount();
+            }
+        }
+
+        Map<Long, String> names = staffService.findAll().stream()
+                .collect(Collectors.toMap(Staff::getId, Staff::getName, (a, b) -> a));
+        List<AnalyticsReport.PlannerStats> planners = new ArrayList<>();
+        byPlanner.forEach((plannerId, rows) -> {
+            long approved = entered(rows, EventStatus.PUBLISHED);
+            long rejected = entered(rows, EventStatus.REJECTED);
+            long decided = approved + rejected;
+            PlannerStatusRow published = rows.get(EventStatus.PUBLISHED);
+            planners.add(new AnalyticsReport.PlannerStats(plannerId, names.get(plannerId),
+                    entered(rows, EventStatus.PENDING), approved, rejected,
+                    decided == 0 ? null : (double) approved / decided,
+                    decided == 0 ? null : (double) rejected / decided,
+                    published == null ? null : hours(published.getLatencySeconds(), published.getLatencyCount())));
+        });
+        return new AnalyticsReport(from, to, byCategory, planners, entered, hours(approvalSeconds, approvals));
+    }
+
+    private static long entered(Map<EventStatus, PlannerStatusRow> rows, EventStatus status) {
+        PlannerStatusRow r = rows.get(status);
+        return r == null ? 0 : r.getEntered();
+    }
+
+    private static Double hours(long seconds, long count) {
+        return count == 0 ? null : seconds / SECONDS_PER_HOUR / count;
+    }
+
+    // ===== Backfill ==========================================================
+
+    /**
+     * Recomputes every rollup from {@code events} in one transaction, with folding paused, and
+     * drops the deltas queued before it started (the scan already sees their changes).
+     * Returns the number of rollup rows written.
+     */
+    public int backfill() {
+        Integer n = folder.exclusively(() -> tx.execute(status -> {
+            long queuedUpTo = deltas.findMaxId();
+            ZoneId zone = ZoneId.systemDefault();
+            Sums sums = new Sums();
+            try (Stream<RollupSourceRow> rows = events.streamRollupSource()) {
+                rows.forEach(r -> addHistory(sums, r, zone));
+            }
+            rollups.deleteAllRows();
+            deltas.deleteUpTo(queuedUpTo);
+            insert(INSERT_ROLLUP, sums);
+            return sums.size();
+        }));
+        log.info("Event rollups backfilled: {} rows", n);
+        return n == null ? 0 : n;
+    }
+
+    private static void addHistory(Sums sums, RollupSourceRow r, ZoneId zone) {
+        Long planner = r.getPlannerId();
+        EventCategory category = r.getCategory();
+        OffsetDateTime submitted = r.getSubmittedAt();
+        boolean createdPending = submitted != null && submitted.equals(r.getCreatedAt());
+
+        EventStatus createdAs = createdPending ? EventStatus.PENDING : EventStatus.DRAFT;
+        sums.add(new Key(day(r.getCreatedAt(), zone), planner, category, createdAs), 1, 1, null);
+        if (submitted != null && !createdPending) {
+            sums.add(new Key(day(submitted, zone), planner, category, EventStatus.PENDING), 0, 1, null);
+        }
+        boolean approved = r.getStatus() == EventStatus.PUBLISHED || r.getStatus() == EventStatus.COMPLETED
+                || r.getPublishedAt() != null;
+        if (approved) {
+            OffsetDateTime at = r.getPublishedAt();
+            OffsetDateTime dated = at != null ? at : submitted != null ? submitted : r.getCreatedAt();
+            sums.add(new Key(day(dated, zone), planner, category, EventStatus.PUBLISHED), 0, 1,
+                     decisionLatency(EventStatus.PUBLISHED, submitted, at));
+        }
+        if (r.getStatus() == EventStatus.REJECTED || r.getStatus() == EventStatus.CANCELLED
+                || r.getStatus() == EventStatus.COMPLETED) {
+            OffsetDateTime at = r.getUpdatedAt() != null ? r.getUpdatedAt() : r.getCreatedAt();
+            sums.add(new Key(day(at, zone), planner, category, r.getStatus()), 0, 1,
+                     decisionLatency(r.getStatus(), submitted, r.getUpdatedAt()));
+        }
+    }
+
+    private static LocalDate day(OffsetDateTime t, ZoneId zone) {
+        return t.atZoneSameInstant(zone).toLocalDate();
+    }
+
+    private void insert(String sql, Sums sums) {
+        if (sums.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(sums.size());
+        sums.forEach((k, s) -> args.add(new Object[]{
+                k.day(), k.plannerId(), k.category().name(), k.status().name(), s[0], s[1], s[2], s[3]}));
+        jdbc.batchUpdate(sql, args);
+    }
+}
@@ -0,0 +1,88 @@
+// service/EventAutoCompletionJob.java
+package com.example.eventplanner.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves PUBLISHED events whose date has passed to COMPLETED, on a cron schedule
+ * ({@code app.auto-complete.cron}, run by the shared scheduler in {@code SchedulingConfig}).
+ * Works in chunks of {@code chunk-size}, one short transaction each (lock the chunk,
+ * one set-based UPDATE, optional batched notifications), until nothing is left.
+ * Last-run figures are exported as gauges on the {@link MeterRegistry}.
+ */
+@Slf4j
+@Component
+public class EventAutoCompletionJob {
+
+    private final EventService events;
+    private final Counter completedTotal;
+
+    @Value("${app.auto-complete.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.auto-complete.zone:#{T(java.time.ZoneId).systemDefault().id}}")
+    private String zone;
+
+    @Value("${app.auto-complete.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.auto-complete.notify:true}")
+    private boolean notifyPlanners;
+
+    private final AtomicLong lastRunEpochSeconds = new AtomicLong();
+    private final AtomicLong lastRunCompleted = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+
+    public EventAutoCompletionJob(EventService events, MeterRegistry registry) {
+        this.events = events;
+        Gauge.builder("auto.complete.last.run.timestamp", lastRunEpochSeconds, AtomicLong::get)
+                .description("Start of the last auto-completion run").baseUnit("seconds").register(registry);
+        Gauge.builder("auto.complete.last.run.events", lastRunCompleted, AtomicLong::get)
+                .description("Events completed by the last run").register(registry);
+        Gauge.builder("auto.complete.last.run.duration", lastRunMillis, ms -> ms.get() / 1000.0)
+                .description("Duration of the last run").baseUnit("seconds").register(registry);
+        this.completedTotal = Counter.builder("auto.complete.events")
+                .description("Events completed automatically").register(registry);
+    }
+
+    /** Completes everything that is due; returns the number of events moved. */
+    public int run() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(ZoneId.of(zone));
+        int total = 0;
+        int n;
+        do {
+            n = events.completePast(today, chunkSize, notifyPlanners);
+            total += n;
+        } while (n > 0 && !Thread.currentThread().isInterrupted());
+
+        lastRunEpochSeconds.set(start / 1000);
+        lastRunCompleted.set(total);
+        lastRunMillis.set(System.currentTimeMillis() - start);
+        completedTotal.increment(total);
+        if (total > 0) log.info("Auto-completed {} past events in {} ms", total, lastRunMillis.get());
+        return total;
+    }
+
+    @Scheduled(cron = "${app.auto-complete.cron:0 15 * * * *}",     // hourly, quarter past
+               zone = "${app.auto-complete.zone:#{T(java.time.ZoneId).systemDefault().id}}")
+    public void runScheduled() {
+        if (!enabled) return;
+        try {
+            run();
+        } catch (Exception ex) {
+            // remaining events are picked up by the next run
+            log.warn("Event auto-completion failed", ex);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+// service/EventChanged.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.enums.EventStatus;
+
+/**
+ * One event written by {@link EventService} or {@link EventImportService}; published in
+ * batches as {@link EventsChanged}.
+ *
+ * {@code from} is null for CREATED, for a MOVED whose source state is not known exactly
+ * (a transition allowed from several states, done as one conditional UPDATE); {@code to} is
+ * null for DELETED. {@code row} is the written entity for CREATED and UPDATED, else null.
+ */
+public record EventChanged(Kind kind, Long id, Long plannerId, EventStatus from, EventStatus to, Event row) {
+
+    public enum Kind { CREATED, UPDATED, MOVED, DELETED }
+
+    public static EventChanged created(Event e) {
+        return new EventChanged(Kind.CREATED, e.getId(), e.getPlanner().getId(), null, e.getStatus(), e);
+    }
+
+    /** Fields changed, status did not. */
+    public static EventChanged updated(Event e) {
+        return new EventChanged(Kind.UPDATED, e.getId(), e.getPlanner().getId(), e.getStatus(), e.getStatus(), e);
+    }
+
+    public static EventChanged moved(Long id, Long plannerId, EventStatus from, EventStatus to) {
+        return new EventChanged(Kind.MOVED, id, plannerId, from, to, null);
+    }
+
+    public static EventChanged deleted(Long id, Long plannerId, EventStatus from) {
+        return new EventChanged(Kind.DELETED, id, plannerId, from, null, null);
+    }
+}
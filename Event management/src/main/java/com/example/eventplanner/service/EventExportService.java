@@ -0,0 +1,113 @@
+// service/EventExportService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.repo.EventExportRow;
+import com.example.eventplanner.repo.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes events straight from a database cursor to the response: rows are never collected
+ * into a list, so memory stays flat regardless of how many events match.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "eventDate", "venue", "category", "status", "plannerId", "plannerName",
+            "plannerEmail", "description", "rejectionReason", "createdAt", "submittedAt", "publishedAt");
+
+    private final EventRepository events;
+    private final ObjectMapper mapper;
+
+    /** Streams matching events to {@code out}; the transaction keeps the cursor open while writing. */
+    @Transactional(readOnly = true)
+    public long export(EventStatus status, EventCategory category, Long plannerId,
+                       LocalDate fromDate, LocalDate toDate,
+                       Format format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024, true) : out;
+        Writer w = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        long count = 0;
+        try (Stream<EventExportRow> rows = events.streamForExport(status, category, plannerId, fromDate, toDate)) {
+            if (format == Format.CSV) {
+                w.write(String.join(",", COLUMNS));
+                w.write("\r\n");
+                w.flush();   // first bytes go out before the query has been fully read
+            }
+            Iterator<EventExportRow> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] values = values(it.next());
+                if (format == Format.CSV) writeCsv(w, values);
+                else writeJson(w, values);
+                count++;
+            }
+        }
+        w.flush();
+        if (target instanceof GZIPOutputStream gz) gz.finish();
+        return count;
+    }
+
+    private static Object[] values(EventExportRow r) {
+        return new Object[]{
+                r.getId(), r.getTitle(), r.getEventDate(), r.getVenue(), r.getCategory(), r.getStatus(),
+                r.getPlannerId(), r.getPlannerName(), r.getPlannerEmail(), r.getDescription(),
+                r.getRejectionReason(), r.getCreatedAt(), r.getSubmittedAt(), r.getPublishedAt()};
+    }
+
+    /**
+     * Text cells (title, venue, description, ...) are user input and the file is opened in
+     * spreadsheets: a cell that would start a formula gets a leading {@code '} so it stays text.
+     */
+    private static void writeCsv(Writer w, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) w.write(',');
+            if (values[i] == null) continue;
+            String v = values[i] instanceof String s ? defuseFormula(s) : values[i].toString();
+            if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0) {
+                w.write('"');
+                w.write(v.replace("\"", "\"\""));
+                w.write('"');
+            } else {
+                w.write(v);
+            }
+        }
+        w.write("\r\n");
+    }
+
+    private static String defuseFormula(String v) {
+        if (v.isEmpty()) return v;
+        char c = v.charAt(0);
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r' ? "'" + v : v;
+    }
+
+    private void writeJson(Writer w, Object[] values) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            Object v = values[i];
+            row.put(COLUMNS.get(i), v == null || v instanceof Number ? v : v.toString());
+        }
+        w.write(mapper.writeValueAsString(row));
+        w.write('\n');
+    }
+}
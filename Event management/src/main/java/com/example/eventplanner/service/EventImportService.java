@@ -0,0 +1,282 @@
+// service/EventImportService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.EventForm;
+import com.example.eventplanner.dto.ImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV or NDJSON upload row by row into {@code events}. Each row is validated
+ * against the {@link EventForm} constraints; valid rows are inserted with JDBC batches,
+ * one transaction per batch, so heap use depends on the batch size, not the file size.
+ *
+ * CSV needs a header row naming the {@link EventForm} fields
+ * (title, eventDate, venue, category, description; any order, case-insensitive).
+ * NDJSON is one {@link EventForm} JSON object per line.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String INSERT_SQL = "insert into events "
+            + "(planner_id, title, event_date, venue, category, description, status, created_at, submitted_at, version, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final List<String> COLUMNS = List.of("title", "eventdate", "venue", "category", "description");
+
+    private final JdbcTemplate jdbc;
+    private final PlatformTransactionManager txManager;
+    private final Validator validator;
+    private final ObjectMapper mapper;
+    private final ApplicationEventPublisher publisher;
+
+    @Value("${app.import.batch-size:1000}")
+    private int defaultBatchSize;
+
+    @Value("${app.import.max-batch-size:5000}")
+    private int maxBatchSize;
+
+    /** One parsed row: the form, or the reason it could not be parsed. */
+    private record Row(int line, EventForm form, String error) {}
+
+    /** The file cannot be read as the requested format at all; nothing was imported. */
+    private static final class RejectedFile extends RuntimeException {
+        RejectedFile(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    public ImportResult importEvents(Staff planner, InputStream in, Format format, boolean submit, Integer batchSize)
+            throws IOException {
+        int size = batchSize == null ? defaultBatchSize : Math.max(1, Math.min(batchSize, maxBatchSize));
+        EventStatus status = submit ? EventStatus.PENDING : EventStatus.DRAFT;
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        ImportResult result = new ImportResult();
+        List<Event> batch = new ArrayList<>(size);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Iterator<Row> rows;
+            try {
+                rows = format == Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+            } catch (RejectedFile ex) {
+                return ImportResult.rejected(ex.getMessage());
+            }
+            while (rows.hasNext()) {
+                Row row = rows.next();
+                String error = row.error() != null ? row.error() : validate(row.form());
+                if (error != null) {
+                    result.addError(row.line(), error);
+                    continue;
+                }
+                batch.add(toEvent(planner, row.form(), status));
+                if (batch.size() == size) flush(tx, planner, batch, result);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (!batch.isEmpty()) flush(tx, planner, batch, result);
+        return result;
+    }
+
+    // ===== Parsing ===========================================================
+
+    private Iterator<Row> csvRows(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) return Collections.emptyIterator();
+        Map<String, Integer> idx = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) idx.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        List<String> missing = COLUMNS.stream().filter(c -> !idx.containsKey(c)).collect(Collectors.toList());
+        if (!missing.isEmpty()) throw new RejectedFile("CSV header is missing columns: " + missing);
+
+        return new RowIterator() {
+            @Override
+            Row read() throws IOException {
+                List<String> rec;
+                do {
+                    rec = csv.next();
+                    if (rec == null) return null;
+                } while (rec.size() == 1 && rec.get(0).isBlank());   // skip blank lines
+                int line = csv.recordLine();
+                EventForm f = new EventForm();
+                f.setTitle(cell(rec, idx, "title"));
+                String date = cell(rec, idx, "eventdate");
+                try {
+                    f.setEventDate(date == null || date.isBlank() ? null : LocalDate.parse(date.trim()));
+                } catch (DateTimeParseException ex) {
+                    return new Row(line, null, "eventDate: expected yyyy-MM-dd");
+                }
+                f.setVenue(cell(rec, idx, "venue"));
+                String cat = cell(rec, idx, "category");
+                try {
+                    f.setCategory(cat == null || cat.isBlank() ? null : EventCategory.valueOf(cat.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException ex) {
+                    return new Row(line, null, "category: expected one of " + Arrays.toString(EventCategory.values()));
+                }
+                f.setDescription(cell(rec, idx, "description"));
+                return new Row(line, f, null);
+            }
+        };
+    }
+
+    private Iterator<Row> ndjsonRows(BufferedReader reader) {
+        return new RowIterator() {
+            int line = 0;
+
+            @Override
+            Row read() throws IOException {
+                String text;
+                do {
+                    text = reader.readLine();
+                    line++;
+                    if (text == null) return null;
+                } while (text.isBlank());
+                try {
+                    return new Row(line, mapper.readValue(text, EventForm.class), null);
+                } catch (JsonProcessingException ex) {
+                    return new Row(line, null, "invalid JSON: " + ex.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    private static String cell(List<String> rec, Map<String, Integer> idx, String column) {
+        int i = idx.get(column);
+        return i < rec.size() ? rec.get(i) : null;
+    }
+
+    private String validate(EventForm f) {
+        Set<ConstraintViolation<EventForm>> violations = validator.validate(f);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /** Pull-style iterator over rows; IO errors surface as {@link UncheckedIOException}. */
+    private abstract static class RowIterator implements Iterator<Row> {
+        private Row next;
+        private boolean done;
+
+        abstract Row read() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = read();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Row r = next;
+            next = null;
+            return r;
+        }
+    }
+
+    // ===== Writing ===========================================================
+
+    private static Event toEvent(Staff planner, EventForm f, EventStatus status) {
+        Event e = EventService.newEvent(planner, f);
+        e.setStatus(status);
+        if (status == EventStatus.PENDING) e.setSubmittedAt(e.getCreatedAt());
+        return e;
+    }
+
+    private void flush(TransactionTemplate tx, Staff planner, List<Event> batch, ImportResult result) {
+        tx.executeWithoutResult(s -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbc.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Event e = batch.get(i);
+                            ps.setLong(1, planner.getId());
+                            ps.setString(2, e.getTitle());
+                            ps.setObject(3, e.getEventDate());
+                            ps.setString(4, e.getVenue());
+                            ps.setString(5, e.getCategory().name());
+                            ps.setString(6, e.getDescription());
+                            ps.setString(7, e.getStatus().name());
+                            ps.setObject(8, e.getCreatedAt());
+                            ps.setObject(9, e.getSubmittedAt());
+                            ps.setObject(10, e.getCreatedAt());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }, keys);
+            List<Map<String, Object>> ids = keys.getKeyList();
+            // every row must reach the indexes and read models; without its id it cannot, so roll the batch back
+            if (ids.size() != batch.size()) {
+                throw new IllegalStateException("Driver returned " + ids.size() + " generated keys for " + batch.size() + " inserted events");
+            }
+            List<EventChanged> created = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                Event e = batch.get(i);
+                e.setId(((Number) ids.get(i).values().iterator().next()).longValue());
+                created.add(EventChanged.created(e));
+            }
+            publisher.publishEvent(new EventsChanged(created));
+        });
+        result.addImported(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * Picks the format from an explicit parameter, else from the file name / content type
+     * (CSV when neither says otherwise); null when the parameter names no known format.
+     */
+    public static Format detectFormat(String format, String filename, String contentType) {
+        if (format != null && !format.isBlank()) {
+            String f = format.trim().toUpperCase(Locale.ROOT);
+            return Arrays.stream(Format.values()).filter(v -> v.name().equals(f)).findFirst().orElse(null);
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) return Format.NDJSON;
+        if (contentType != null && contentType.contains("json")) return Format.NDJSON;
+        return Format.CSV;
+    }
+}
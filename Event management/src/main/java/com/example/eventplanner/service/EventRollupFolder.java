@@ -0,0 +1,117 @@
+// service/EventRollupFolder.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.EventRollup;
+import com.example.eventplanner.domain.EventRollupDelta;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.repo.EventRollupDeltaRepository;
+import com.example.eventplanner.repo.EventRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Folds {@link EventRollupDelta} rows into {@code event_rollups} on the shared scheduler:
+ * lock a batch (SKIP LOCKED), sum it per key, add to existing rows or insert new ones, delete
+ * the batch, all in one transaction. A failed batch stays queued and is retried on the next poll.
+ * Folds on this node never overlap each other or a backfill ({@link #exclusively}).
+ */
+@Slf4j
+@Component
+public class EventRollupFolder {
+
+    private record Key(LocalDate day, Long plannerId, EventCategory category, EventStatus status) {}
+
+    private final EventRollupDeltaRepository deltas;
+    private final EventRollupRepository rollups;
+    private final TransactionTemplate tx;
+
+    @Value("${app.analytics.fold-batch-size:2000}")
+    private int batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public EventRollupFolder(EventRollupDeltaRepository deltas, EventRollupRepository rollups,
+                             PlatformTransactionManager txManager) {
+        this.deltas = deltas;
+        this.rollups = rollups;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    /** Folds everything queued; returns how many deltas were folded. */
+    public int foldAll() {
+        return exclusively(() -> {
+            int total = 0;
+            int n;
+            do {
+                n = foldBatch();
+                total += n;
+            } while (n == batchSize);
+            return total;
+        });
+    }
+
+    /** Runs {@code work} (e.g. a backfill transaction) with folding paused. */
+    public <T> T exclusively(Supplier<T> work) {
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.analytics.fold-poll-ms:5000}",
+               fixedDelayString = "${app.analytics.fold-poll-ms:5000}")
+    public void foldSafely() {
+        try {
+            foldAll();
+        } catch (Exception ex) {
+            log.warn("Event rollup fold failed", ex);
+        }
+    }
+
+    private int foldBatch() {
+        Integer n = tx.execute(status -> {
+            List<EventRollupDelta> batch = deltas.lockBatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) return 0;
+            Map<Key, long[]> sums = new LinkedHashMap<>();
+            for (EventRollupDelta d : batch) {
+                long[] s = sums.computeIfAbsent(new Key(d.getDay(), d.getPlannerId(), d.getCategory(), d.getStatus()),
+                        k -> new long[4]);
+                s[0] += d.getCreated();
+                s[1] += d.getEntered();
+                s[2] += d.getLatencySeconds();
+                s[3] += d.getLatencyCount();
+            }
+            sums.forEach((k, s) -> {
+                if (rollups.add(k.day(), k.plannerId(), k.category(), k.status(), s[0], s[1], s[2], s[3]) > 0) return;
+                EventRollup r = new EventRollup();
+                r.setDay(k.day());
+                r.setPlannerId(k.plannerId());
+                r.setCategory(k.category());
+                r.setStatus(k.status());
+                r.setCreated(s[0]);
+                r.setEntered(s[1]);
+                r.setLatencySeconds(s[2]);
+                r.setLatencyCount(s[3]);
+                rollups.save(r);
+            });
+            deltas.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        return n == null ? 0 : n;
+    }
+}
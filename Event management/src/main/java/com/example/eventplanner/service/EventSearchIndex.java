@@ -0,0 +1,366 @@
+// service/EventSearchIndex.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.repo.EventIndexRow;
+import com.example.eventplanner.repo.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over event title, venue and description.
+ *
+ * Ranking is BM25 with field boosts (title 3, venue 2, description 1). Each query term also
+ * matches indexed terms it is a prefix of, and terms within one edit (insert, delete,
+ * substitute or transpose) for terms of 4+ chars, found through a deletion-neighbourhood
+ * map rather than by scanning the vocabulary. Exact matches outrank prefix matches, which
+ * outrank typo matches.
+ *
+ * Writes are applied after commit by {@link EventService}; the whole index is rebuilt from
+ * the database in the background on startup. Until {@link #isReady()} callers should fall
+ * back to the database, since a partial index silently misses events.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    private static final double K1 = 1.2, B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.7, FUZZY_WEIGHT = 0.5;
+    private static final int TITLE_BOOST = 3, VENUE_BOOST = 2, DESCRIPTION_BOOST = 1;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int REBUILD_BATCH = 2000;
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with");
+
+    /** Optional filters applied to hits; null fields mean "any". */
+    public record Filter(Long plannerId, EventStatus status, EventCategory category,
+                         LocalDate fromDate, LocalDate toDate) {
+        boolean accepts(Doc d) {
+            return (plannerId == null || plannerId.equals(d.plannerId))
+                    && (status == null || status == d.status)
+                    && (category == null || category == d.category)
+                    && (fromDate == null || (d.eventDate != null && !d.eventDate.isBefore(fromDate)))
+                    && (toDate == null || (d.eventDate != null && !d.eventDate.isAfter(toDate)));
+        }
+    }
+
+    public record Hit(long eventId, double score) {}
+
+    /** Top hits in rank order plus the number of matching events. */
+    public record Result(List<Hit> hits, int total) {}
+
+    private static final class Doc {
+        final Long plannerId;
+        final EventStatus status;
+        final EventCategory category;
+        final LocalDate eventDate;
+        final Map<String, Integer> terms;
+        final int length;
+
+        Doc(Long plannerId, EventStatus status, EventCategory category, LocalDate eventDate,
+            String title, String venue, String description) {
+            this.plannerId = plannerId;
+            this.status = status;
+            this.category = category;
+            this.eventDate = eventDate;
+            Map<String, Integer> tf = new HashMap<>();
+            addTerms(tf, title, TITLE_BOOST);
+            addTerms(tf, venue, VENUE_BOOST);
+            addTerms(tf, description, DESCRIPTION_BOOST);
+            this.terms = tf;
+            this.length = tf.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        private Doc(Doc base, EventStatus status) {
+            this.plannerId = base.plannerId;
+            this.status = status;
+            this.category = base.category;
+            this.eventDate = base.eventDate;
+            this.terms = base.terms;
+            this.length = base.length;
+        }
+
+        private static void addTerms(Map<String, Integer> tf, String text, int boost) {
+            for (String t : tokenize(text)) tf.merge(t, boost, Integer::sum);
+        }
+    }
+
+    private final EventRepository events;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> deletions = new HashMap<>();   // one-char deletion -> terms
+    private long totalLength;
+
+    // ids written live while a rebuild is running; the rebuild must not overwrite them
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    // status changes of ids the rebuild has not reached yet; applied when it does
+    private final Map<Long, EventStatus> statusDuringRebuild = new HashMap<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    // ===== Writes ============================================================
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        for (EventChanged c : changes.changes()) {
+            switch (c.kind()) {
+                case CREATED, UPDATED -> indexAfterCommit(c.row());
+                case DELETED -> removeAfterCommit(c.id());
+                case MOVED -> { }
+            }
+        }
+        changes.movedIdsByTo().forEach((to, ids) -> updateStatusAfterCommit(ids, to));
+    }
+
+    /** Indexes (or re-indexes) an event once the current transaction commits. */
+    public void indexAfterCommit(Event e) {
+        Long id = e.getId();
+        Doc doc = new Doc(e.getPlanner() != null ? e.getPlanner().getId() : null, e.getStatus(),
+                e.getCategory(), e.getEventDate(), e.getTitle(), e.getVenue(), e.getDescription());
+        TxHooks.afterCommit(() -> write(() -> put(id, doc, true)));
+    }
+
+    /** Removes an event once the current transaction commits. */
+    public void removeAfterCommit(Long id) {
+        TxHooks.afterCommit(() -> write(() -> {
+            if (rebuilding) touchedDuringRebuild.add(id);
+            remove(id);
+        }));
+    }
+
+    /** Changes only the status of indexed events (bulk transitions) once the transaction commits. */
+    public void updateStatusAfterCommit(Collection<Long> ids, EventStatus status) {
+        List<Long> copy = List.copyOf(ids);
+        TxHooks.afterCommit(() -> write(() -> {
+            for (Long id : copy) {
+                Doc d = docs.get(id);
+                if (d != null) {
+                    if (rebuilding) touchedDuringRebuild.add(id);
+                    docs.put(id, new Doc(d, status));
+                } else if (rebuilding) {
+                    statusDuringRebuild.put(id, status);
+                }
+            }
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("event-search-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception ex) {
+                log.error("Event search index rebuild failed", ex);
+            }
+        });
+    }
+
+    /** Re-reads every event with a keyset scan and replaces the index contents. */
+    public void rebuild() {
+        long started = System.nanoTime();
+        write(() -> {
+            docs.clear();
+            postings.clear();
+            deletions.clear();
+            totalLength = 0;
+            touchedDuringRebuild.clear();
+            statusDuringRebuild.clear();
+            rebuilding = true;
+            ready = false;
+        });
+        long afterId = 0;
+        int count = 0;
+        try {
+            while (true) {
+                List<EventIndexRow> rows = events.findIndexRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH));
+                if (rows.isEmpty()) break;
+                write(() -> {
+                    for (EventIndexRow r : rows) {
+                        if (touchedDuringRebuild.contains(r.getId())) continue;
+                        EventStatus status = statusDuringRebuild.getOrDefault(r.getId(), r.getStatus());
+                        put(r.getId(), new Doc(r.getPlannerId(), status, r.getCategory(), r.getEventDate(),
+                                r.getTitle(), r.getVenue(), r.getDescription()), false);
+                    }
+                });
+                count += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } finally {
+            write(() -> {
+                rebuilding = false;
+                touchedDuringRebuild.clear();
+                statusDuringRebuild.clear();
+            });
+        }
+        ready = true;
+        log.info("Event search index built: {} events in {} ms", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void write(Runnable r) {
+        lock.writeLock().lock();
+        try {
+            r.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long id, Doc doc, boolean live) {
+        if (live && rebuilding) touchedDuringRebuild.add(id);
+        remove(id);
+        docs.put(id, doc);
+        totalLength += doc.length;
+        doc.terms.forEach((term, tf) -> {
+            Map<Long, Integer> p = postings.get(term);
+            if (p == null) {
+                p = new HashMap<>();
+                postings.put(term, p);
+                for (String d : deletes(term)) deletions.computeIfAbsent(d, k -> new HashSet<>()).add(term);
+            }
+            p.put(id, tf);
+        });
+    }
+
+    private void remove(Long id) {
+        Doc old = docs.remove(id);
+        if (old == null) return;
+        totalLength -= old.length;
+        for (String term : old.terms.keySet()) {
+            Map<Long, Integer> p = postings.get(term);
+            if (p == null) continue;
+            p.remove(id);
+            if (p.isEmpty()) {
+                postings.remove(term);
+                for (String d : deletes(term)) {
+                    Set<String> terms = deletions.get(d);
+                    if (terms != null && terms.remove(term) && terms.isEmpty()) deletions.remove(d);
+                }
+            }
+        }
+    }
+
+    // ===== Queries ===========================================================
+
+    /** Ranked search; {@code limit} caps the returned hits, {@code total} counts all matches. */
+    public Result search(String query, Filter filter, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) return new Result(List.of(), 0);
+        Filter f = filter != null ? filter : new Filter(null, null, null, null, null);
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) return new Result(List.of(), 0);
+            double avgLength = (double) totalLength / n;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String qt : new LinkedHashSet<>(terms)) {
+                // best expansion per document, so one query term cannot score twice
+                Map<Long, Double> best = new HashMap<>();
+                expand(qt).forEach((term, weight) -> {
+                    Map<Long, Integer> p = postings.get(term);
+                    double idf = Math.log(1 + (n - p.size() + 0.5) / (p.size() + 0.5));
+                    p.forEach((id, tf) -> {
+                        Doc d = docs.get(id);
+                        if (!f.accepts(d)) return;
+                        double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * d.length / avgLength));
+                        best.merge(id, weight * idf * norm, Math::max);
+                    });
+                });
+                best.forEach((id, s) -> scores.merge(id, s, Double::sum));
+            }
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score)
+                    .thenComparingLong(Hit::eventId));
+            scores.forEach((id, s) -> {
+                top.offer(new Hit(id, s));
+                if (top.size() > limit) top.poll();
+            });
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Comparator.comparingLong(Hit::eventId).reversed()));
+            return new Result(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Indexed terms a query term matches, with their weight: exact, then prefix, then one typo. */
+    private Map<String, Double> expand(String qt) {
+        Map<String, Double> out = new LinkedHashMap<>();
+        if (postings.containsKey(qt)) out.put(qt, 1.0);
+        if (qt.length() >= 2) {
+            for (String t : postings.subMap(qt, false, qt + Character.MAX_VALUE, false).keySet()) {
+                if (out.size() >= MAX_EXPANSIONS) break;
+                out.putIfAbsent(t, PREFIX_WEIGHT);
+            }
+        }
+        if (qt.length() >= 4) {
+            Set<String> candidates = new HashSet<>(deletions.getOrDefault(qt, Set.of()));   // insertion typo
+            for (String d : deletes(qt)) {
+                if (postings.containsKey(d)) candidates.add(d);                           // omission typo
+                candidates.addAll(deletions.getOrDefault(d, Set.of()));                   // substitution / transposition
+            }
+            for (String t : candidates) {
+                if (out.size() >= MAX_EXPANSIONS * 2) break;
+                if (!out.containsKey(t) && withinOneEdit(qt, t)) out.put(t, FUZZY_WEIGHT);
+            }
+        }
+        return out;
+    }
+
+    // ===== Text handling =====================================================
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        List<String> out = new ArrayList<>();
+        for (String t : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (t.length() >= 2 && !STOPWORDS.contains(t)) out.add(t);
+        }
+        return out;
+    }
+
+    private static List<String> deletes(String term) {
+        if (term.length() < 4) return List.of();
+        List<String> out = new ArrayList<>(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            out.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return out;
+    }
+
+    /** Optimal string alignment distance <= 1 (a swap of adjacent chars counts as one edit). */
+    static boolean withinOneEdit(String a, String b) {
+        int la = a.length(), lb = b.length();
+        if (Math.abs(la - lb) > 1) return false;
+        int i = 0;
+        while (i < la && i < lb && a.charAt(i) == b.charAt(i)) i++;
+        if (i == la || i == lb) return Math.abs(la - lb) <= 1;
+        if (la == lb) {
+            if (a.substring(i + 1).equals(b.substring(i + 1))) return true;   // substitution
+            return i + 1 < la && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.substring(i + 2).equals(b.substring(i + 2));          // transposition
+        }
+        return la > lb ? a.substring(i + 1).equals(b.substring(i))            // deletion
+                       : a.substring(i).equals(b.substring(i + 1));           // insertion
+    }
+}
@@ -3,54 +3,126 @@ package com.example.eventplanner.service;
 
 import com.example.eventplanner.domain.*;
 import com.example.eventplanner.domain.enums.*;
+import com.example.eventplanner.dto.BulkActionResult;
 import com.example.eventplanner.dto.EventForm;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.dto.MovedEvent;
+import com.example.eventplanner.dto.TransitionResult;
+import com.example.eventplanner.dto.VenueConflict;
 import com.example.eventplanner.repo.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Collectors; // if not already imported
 
-@Service @RequiredArgsConstructor
+@Service @RequiredArgsConstructor @Timed(value = "service.method", histogram = true)
 public class EventService {
     private final EventRepository events;
     private final NotificationService notifications;
+    private final PlannerStatsCache statsCache;
+    private final EventSearchIndex searchIndex;
+    private final VenueConflictIndex venueIndex;
+    private final EntityCaches caches;
+    private final ApplicationEventPublisher publisher;
+
     @Transactional(readOnly = true)
     public Event getForPlanner(Staff planner, Long id) {
         return events.findByIdAndPlanner(id, planner)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found or not yours"));
     }
 
+    /**
+     * Field edits are optimistic: a stale {@link EventForm#getVersion()} fails at once, and a
+     * concurrent commit between load and flush fails the versioned UPDATE; both surface as
+     * {@link ObjectOptimisticLockingFailureException}.
+     */
     @Transactional
     public Event updateEvent(Staff planner, Long id, EventForm f) {
         Event e = getForPlanner(planner, id);
+        if (f.getVersion() != null && f.getVersion() != e.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Event.class, id);
+        }
         e.setTitle(f.getTitle());
         e.setEventDate(f.getEventDate());
         e.setVenue(f.getVenue());
         e.setCategory(f.getCategory());
         e.setDescription(f.getDescription());
         // if it was DRAFT you might keep it; if PENDING, prevent editing, etc.
+        publish(EventChanged.updated(e));
         return e;
     }
+    @Transactional
     public void deleteEvent(Staff planner, Long id) {
-        Event event = getForPlanner(planner, id);
+        Event event = lockForPlanner(planner, id);
         events.delete(event);
+        publish(EventChanged.deleted(id, planner.getId(), event.getStatus()));
+    }
+
+    /** Every write ends here; caches, indexes and read models subscribe to {@link EventsChanged}. */
+    private void publish(EventChanged change) {
+        publisher.publishEvent(EventsChanged.of(change));
     }
 
+    /** Dashboard counters; served from {@link PlannerStatsCache}, one GROUP BY query on a miss. */
+    @Transactional(readOnly = true)
     public Map<String,Long> statsFor(Staff planner){
+        long[] byStatus = statsCache.get(planner.getId(), () -> loadStatusCounts(planner));
         Map<String,Long> s = new HashMap<>();
-        s.put("totalEvents", events.countByPlanner(planner));
-        s.put("draftEvents", events.countByPlannerAndStatus(planner, EventStatus.DRAFT));
-        s.put("pendingEvents", events.countByPlannerAndStatus(planner, EventStatus.PENDING));
-        s.put("publishedEvents", events.countByPlannerAndStatus(planner, EventStatus.PUBLISHED));
+        long total = 0;
+        for (EventStatus st : EventStatus.values()) {
+            long n = byStatus[st.ordinal()];
+            s.put(st.name().toLowerCase() + "Events", n);
+            total += n;
+        }
+        s.put("totalEvents", total);
         return s;
     }
 
-    @Transactional
-    public Event createAsDraft(Staff planner, EventForm f){
+    private long[] loadStatusCounts(Staff planner) {
+        long[] byStatus = PlannerStatsCache.empty();
+        for (StatusCount c : events.countByStatusForPlanner(planner.getId())) {
+            byStatus[c.getStatus().ordinal()] = c.getTotal();
+        }
+        return byStatus;
+    }
+
+    private Event lockForPlanner(Staff planner, Long id) {
+        Event e = events.findByIdForUpdate(id).orElseThrow();
+        if(!e.getPlanner().getId().equals(planner.getId())) throw new SecurityException("Forbidden");
+        return e;
+    }
+
+    /**
+     * Runs {@code t} as one conditional UPDATE (state, and owner when {@code plannerId} is given).
+     * No row read or lock first: a lost race or an illegal move is a single round trip that
+     * changes nothing. The caller publishes the move once it knows the owner.
+     */
+    private boolean apply(Long id, Long plannerId, EventTransition t, String reason) {
+        OffsetDateTime now = OffsetDateTime.now();
+        int n = events.transition(id, plannerId, t.from(), t.to(),
+                t == EventTransition.SUBMIT ? now : null, t == EventTransition.APPROVE ? now : null, reason, now);
+        return n > 0;
+    }
+
+    /** After a successful {@link #apply}; the source state is exact only when {@code t} has one. */
+    private void publishMove(Long id, Long plannerId, EventTransition t) {
+        publish(EventChanged.moved(id, plannerId, t.singleFrom(), t.to()));
+    }
+
+    /** New, unsaved DRAFT event for {@code planner} filled from the form. */
+    static Event newEvent(Staff planner, EventForm f){
         Event e = new Event();
         e.setPlanner(planner);
         e.setTitle(f.getTitle());
@@ -59,29 +131,138 @@ public class EventService {
         e.setCategory(f.getCategory());
         e.setDescription(f.getDescription());
         e.setStatus(EventStatus.DRAFT);
-        return events.save(e);
+        return e;
     }
 
     @Transactional
-    public Event createAndSubmit(Staff planner, EventForm f){
-        Event e = createAsDraft(planner, f);
-        return submitForApproval(planner, e.getId());
+    public Event createAsDraft(Staff planner, EventForm f){
+        Event e = newEvent(planner, f);
+        Event saved = events.save(e);
+        publish(EventChanged.created(saved));
+        return saved;
     }
 
+    /** Inserted directly as PENDING; no draft row to update afterwards. */
     @Transactional
-    public Event submitForApproval(Staff planner, Long id){
-        Event e = events.findById(id).orElseThrow();
-        if(!e.getPlanner().getId().equals(planner.getId())) throw new SecurityException("Forbidden");
+    public Event createAndSubmit(Staff planner, EventForm f){
+        Event e = newEvent(planner, f);
         e.setStatus(EventStatus.PENDING);
-        e.setSubmittedAt(OffsetDateTime.now());
-        return e;
+        e.setSubmittedAt(e.getCreatedAt());
+        Event saved = events.save(e);
+        publish(EventChanged.created(saved));
+        return saved;
+    }
+
+    @Transactional
+    public TransitionResult submitForApproval(Staff planner, Long id){
+        return plannerTransition(planner, id, EventTransition.SUBMIT);
+    }
+
+    @Transactional
+    public TransitionResult cancel(Staff planner, Long id){
+        return plannerTransition(planner, id, EventTransition.CANCEL);
+    }
+
+    private TransitionResult plannerTransition(Staff planner, Long id, EventTransition t) {
+        if (!apply(id, planner.getId(), t, null)) return TransitionResult.conflict(id, t);
+        publishMove(id, planner.getId(), t);
+        return TransitionResult.applied(id, t);
+    }
+
+    // === Admin status actions ==================================================
+
+    /** Publishes the event; the planner's notification is queued in the same transaction. */
+    @Transactional
+    public TransitionResult approve(Long id, String notes) {
+        if (!apply(id, null, EventTransition.APPROVE, null)) return TransitionResult.conflict(id, EventTransition.APPROVE);
+        Event e = events.findById(id).orElseThrow();     // post-update row: owner and title for the notification
+        publishMove(id, e.getPlanner().getId(), EventTransition.APPROVE);
+        notifications.notifyApproved(e, notes);
+        return TransitionResult.applied(id, EventTransition.APPROVE);
     }
 
     @Transactional
-    public void cancel(Staff planner, Long id){
+    public TransitionResult reject(Long id, String rejectionReason) {
+        if (!apply(id, null, EventTransition.REJECT, rejectionReason)) return TransitionResult.conflict(id, EventTransition.REJECT);
         Event e = events.findById(id).orElseThrow();
-        if(!e.getPlanner().getId().equals(planner.getId())) throw new SecurityException("Forbidden");
-        e.setStatus(EventStatus.CANCELLED);
+        publishMove(id, e.getPlanner().getId(), EventTransition.REJECT);
+        notifications.notifyRejected(e, rejectionReason);
+        return TransitionResult.applied(id, EventTransition.REJECT);
+    }
+
+    @Transactional
+    public TransitionResult complete(Long id) {
+        if (!apply(id, null, EventTransition.COMPLETE, null)) return TransitionResult.conflict(id, EventTransition.COMPLETE);
+        publishMove(id, events.findVersionById(id).orElseThrow().getPlannerId(), EventTransition.COMPLETE);
+        return TransitionResult.applied(id, EventTransition.COMPLETE);
+    }
+
+    // === Bulk admin actions: lock candidates, one set-based UPDATE, one notification batch ===
+
+    private static final int BULK_CHUNK = 500;
+
+    @Transactional
+    public BulkActionResult approveAll(Collection<Long> ids, String notes) {
+        List<MovedEvent> moved = bulkTransition(ids, EventTransition.APPROVE, null);
+        notifications.notifyApprovedAll(moved, notes);
+        return bulkResult("approve", ids, moved);
+    }
+
+    @Transactional
+    public BulkActionResult rejectAll(Collection<Long> ids, String rejectionReason) {
+        List<MovedEvent> moved = bulkTransition(ids, EventTransition.REJECT, rejectionReason);
+        notifications.notifyRejectedAll(moved, rejectionReason);
+        return bulkResult("reject", ids, moved);
+    }
+
+    @Transactional
+    public BulkActionResult completeAll(Collection<Long> ids) {
+        List<MovedEvent> moved = bulkTransition(ids, EventTransition.COMPLETE, null);
+        return bulkResult("complete", ids, moved);
+    }
+
+    /**
+     * One chunk of the auto-completion job: up to {@code limit} PUBLISHED events dated before
+     * {@code today} become COMPLETED. Returns how many moved; 0 means nothing is left.
+     */
+    @Transactional
+    public int completePast(LocalDate today, int limit, boolean notify) {
+        List<Long> ids = events.findIdsByStatusBefore(EventStatus.PUBLISHED, today, PageRequest.of(0, limit));
+        if (ids.isEmpty()) return 0;
+        List<MovedEvent> moved = bulkTransition(ids, EventTransition.COMPLETE, null);
+        if (notify) notifications.notifyCompletedAll(moved);
+        return moved.size();
+    }
+
+    /**
+     * Moves the given events in chunks. The UPDATE clears the persistence context, so what the
+     * side effects need is copied into {@link MovedEvent}s first; the locked entities are not
+     * used after it.
+     */
+    private List<MovedEvent> bulkTransition(Collection<Long> ids, EventTransition t, String reason) {
+        EventStatus to = t.to();
+        if (ids == null || ids.isEmpty()) return List.of();
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<MovedEvent> moved = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += BULK_CHUNK) {
+            List<Long> chunk = distinct.subList(i, Math.min(i + BULK_CHUNK, distinct.size()));
+            List<MovedEvent> locked = events.lockAllByIdInAndStatusIn(chunk, t.from()).stream()
+                    .map(MovedEvent::of).toList();
+            if (locked.isEmpty()) continue;
+            List<Long> lockedIds = locked.stream().map(MovedEvent::id).collect(Collectors.toList());
+            events.bulkTransition(lockedIds, t.from(), to, reason, OffsetDateTime.now());
+            publisher.publishEvent(new EventsChanged(locked.stream()
+                    .map(e -> EventChanged.moved(e.id(), e.plannerId(), e.from(), to)).toList()));
+            moved.addAll(locked);
+        }
+        return moved;
+    }
+
+    private static BulkActionResult bulkResult(String action, Collection<Long> requested, List<MovedEvent> moved) {
+        Set<Long> movedIds = moved.stream().map(MovedEvent::id).collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Long> skipped = requested == null ? List.of() : requested.stream()
+                .distinct().filter(id -> !movedIds.contains(id)).collect(Collectors.toList());
+        return new BulkActionResult(action, new ArrayList<>(movedIds), skipped);
     }
 
     // === Admin helpers (non-intrusive) =========================================
@@ -92,31 +273,102 @@ public class EventService {
         return events.findAll();
     }
 
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
-    public java.util.List<com.example.eventplanner.domain.Event> findByStatus(
-            com.example.eventplanner.domain.enums.EventStatus status) {
-        return events.findAll()
-                .stream()
-                .filter(e -> e.getStatus() == status)
-                .collect(Collectors.toList());
+    /** Admin "All Events" table: filtering, sorting and paging all happen in the database. */
+    @Transactional(readOnly = true)
+    public Page<EventListItem> search(EventStatus status, EventCategory category, Long plannerId,
+                                      LocalDate fromDate, LocalDate toDate, Pageable pageable) {
+        return events.findListItems(EventSpecifications.adminFilter(status, category, plannerId, fromDate, toDate), pageable);
     }
 
+    /**
+     * Ranked full-text search over all events (admin), paged in memory over the ranked hits.
+     * While the index is still building this is an unranked substring match in the database.
+     */
+    @Transactional(readOnly = true)
+    public Page<EventListItem> searchAll(String q, EventStatus status, EventCategory category, Long plannerId,
+                                 LocalDate fromDate, LocalDate toDate, Pageable pageable) {
+        if (!searchIndex.isReady()) {
+            return events.findListItems(EventSpecifications.adminFilter(status, category, plannerId, fromDate, toDate)
+                    .and(EventSpecifications.containsWords(q)), pageable);
+        }
+        var filter = new EventSearchIndex.Filter(plannerId, status, category, fromDate, toDate);
+        var result = searchIndex.search(q, filter, (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize()));
+        var hits = result.hits();
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        return new PageImpl<>(loadInOrder(hits.subList(from, hits.size())), pageable, result.total());
+    }
+
+    /** Ranked full-text search scoped to one planner's events. */
+    @Transactional(readOnly = true)
+    public List<EventListItem> searchForPlanner(Staff planner, String q, EventStatus status,
+                                        EventCategory category, LocalDate fromDate, int limit) {
+        if (!searchIndex.isReady()) {
+            var spec = EventSpecifications.adminFilter(status, category, planner.getId(), fromDate, null)
+                    .and(EventSpecifications.containsWords(q));
+            return events.findListItems(spec, PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+        }
+        var filter = new EventSearchIndex.Filter(planner.getId(), status, category, fromDate, null);
+        return loadInOrder(searchIndex.search(q, filter, limit).hits());
+    }
+
+    private List<EventListItem> loadInOrder(List<EventSearchIndex.Hit> hits) {
+        if (hits.isEmpty()) return List.of();
+        List<Long> ids = hits.stream().map(EventSearchIndex.Hit::eventId).collect(Collectors.toList());
+        Map<Long, EventListItem> byId = events.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(EventListItem::getId, ev -> ev));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EventListItem> findByStatus(EventStatus status, Pageable pageable) {
+        if (status == EventStatus.PENDING) {
+            return caches.pendingQueue(pageable, p -> events.findListItemsByStatus(EventStatus.PENDING, p));
+        }
+        return events.findListItemsByStatus(status, pageable);
+    }
+
+    /** Event with its planner for display, served from {@link EntityCaches}; a private copy, not attached. */
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public com.example.eventplanner.domain.Event findById(Long id) {
-        return events.findById(id).orElseThrow();
+        Event e = caches.event(id, k -> events.findWithPlannerById(k).orElse(null));
+        if (e == null) throw new NoSuchElementException("No event " + id);
+        return e;
     }
 
-    @org.springframework.transaction.annotation.Transactional
-    public com.example.eventplanner.domain.Event save(com.example.eventplanner.domain.Event e) {
-        return events.save(e);
+    /** Version and owner of an event, for conditional GETs; does not load the entity. */
+    @Transactional(readOnly = true)
+    public Optional<EventVersionRow> findVersion(Long id) {
+        return events.findVersionById(id);
     }
 
-    /** Count events assigned to a staff member (planner). Keeps it simple & repo-agnostic. */
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    /** Other PENDING/PUBLISHED events booked at the same venue on the same date. */
+    public List<VenueConflict> venueConflicts(String venue, LocalDate date, Long excludeId) {
+        return venueIndex.conflicts(venue, date, excludeId);
+    }
+
+    /** Event id -> whether it collides with another booking; for flagging the admin queue. */
+    public Map<Long, Boolean> conflictFlags(Collection<Long> eventIds) {
+        Map<Long, Boolean> flags = new HashMap<>();
+        for (Long id : eventIds) flags.put(id, venueIndex.hasConflict(id));
+        return flags;
+    }
+
+    /** Count events assigned to a staff member (planner). */
+    @Transactional(readOnly = true)
     public int countByStaffId(Long staffId) {
-        return (int) events.findAll().stream()
-                .filter(e -> e.getPlanner() != null && java.util.Objects.equals(e.getPlanner().getId(), staffId))
-                .count();
+        return (int) events.countByPlanner_Id(staffId);
+    }
+
+    /** Assigned-event counts for many staff members in one grouped query; ids without events map to 0. */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countByStaffIds(Collection<Long> staffIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (staffIds == null || staffIds.isEmpty()) return counts;
+        for (Long id : staffIds) counts.put(id, 0L);
+        for (PlannerEventCount c : events.countGroupedByPlanner(staffIds)) {
+            counts.put(c.getPlannerId(), c.getEventCount());
+        }
+        return counts;
     }
 
 }
@@ -0,0 +1,68 @@
+// service/EventsChanged.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+
+import java.util.*;
+
+/**
+ * Domain event for every write to events: one per operation (a single edit, a bulk chunk, an
+ * import batch), so listeners can batch their own work.
+ *
+ * Published inside the writing transaction and delivered synchronously. The read models that
+ * live in the database (dashboard rows, analytics deltas) must change in that transaction;
+ * the in-memory ones (indexes, caches, view versions, the pending-queue stream) apply their
+ * part after commit themselves, through their {@code ...AfterCommit} methods or generation
+ * guards. A new cache or index subscribes with {@code @EventListener} instead of another
+ * call in every write path.
+ */
+public record EventsChanged(List<EventChanged> changes) {
+
+    /** A status count moving for one planner: {@code null} from = created, {@code null} to = deleted. */
+    public record StatusMove(Long plannerId, EventStatus from, EventStatus to) {}
+
+    public EventsChanged {
+        changes = List.copyOf(changes);
+    }
+
+    public static EventsChanged of(EventChanged change) {
+        return new EventsChanged(List.of(change));
+    }
+
+    /** Exact status moves with how many events made each; moves with an unknown source are left out. */
+    public Map<StatusMove, Long> statusMoves() {
+        Map<StatusMove, Long> out = new LinkedHashMap<>();
+        for (EventChanged c : changes) {
+            if (c.kind() == EventChanged.Kind.UPDATED) continue;
+            if (c.kind() == EventChanged.Kind.MOVED && c.from() == null) continue;
+            out.merge(new StatusMove(c.plannerId(), c.from(), c.to()), 1L, Long::sum);
+        }
+        return out;
+    }
+
+    /** Planners with a status change whose source state is not known: their counts need a recount. */
+    public Set<Long> plannersWithUnknownMoves() {
+        Set<Long> out = new LinkedHashSet<>();
+        for (EventChanged c : changes) {
+            if (c.from() == null && c.kind() != EventChanged.Kind.CREATED) out.add(c.plannerId());
+        }
+        return out;
+    }
+
+    public Set<Long> planners() {
+        Set<Long> out = new LinkedHashSet<>();
+        for (EventChanged c : changes) out.add(c.plannerId());
+        return out;
+    }
+
+    public List<EventChanged> of(EventChanged.Kind kind) {
+        return changes.stream().filter(c -> c.kind() == kind).toList();
+    }
+
+    /** Ids of MOVED events, by target status. */
+    public Map<EventStatus, List<Long>> movedIdsByTo() {
+        Map<EventStatus, List<Long>> out = new EnumMap<>(EventStatus.class);
+        for (EventChanged c : of(EventChanged.Kind.MOVED)) out.computeIfAbsent(c.to(), k -> new ArrayList<>()).add(c.id());
+        return out;
+    }
+}
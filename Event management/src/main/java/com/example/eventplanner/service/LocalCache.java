@@ -0,0 +1,89 @@
+// service/LocalCache.java
+package com.example.eventplanner.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small bounded in-process cache: TTL per entry, size cap, hit/miss counters.
+ * When full, expired entries go first, then the oldest tenth.
+ *
+ * Staleness guard: every invalidation bumps a generation; a value loaded while the
+ * generation moved is returned to its caller but not stored. Null values are not cached.
+ * Created through {@link CacheRegistry} so they show up in stats and remote invalidation.
+ */
+public class LocalCache<K, V> {
+
+    /** Point-in-time counters; {@code hitRate} is 0 before the first lookup. */
+    public record Stats(long size, long hits, long misses, long evictions, double hitRate) {}
+
+    private record Entry<V>(V value, long loadedAt, long expiresAt) {}
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    LocalCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public String name() { return name; }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> e = entries.get(key);
+        if (e != null && e.expiresAt() > now) {
+            hits.increment();
+            return e.value();
+        }
+        misses.increment();
+        long gen = generation.get();
+        V value = loader.apply(key);
+        if (value != null && generation.get() == gen) {
+            if (entries.size() >= maxSize) trim(now);
+            entries.put(key, new Entry<>(value, now, now + ttlMillis));
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public Stats stats() {
+        long h = hits.sum(), m = misses.sum();
+        return new Stats(entries.size(), h, m, evictions.sum(), h + m == 0 ? 0 : (double) h / (h + m));
+    }
+
+    private void trim(long now) {
+        int before = entries.size();
+        entries.values().removeIf(x -> x.expiresAt() <= now);
+        if (entries.size() >= maxSize) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(x -> x.getValue().loadedAt()))
+                    .limit(Math.max(1, maxSize / 10))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+        evictions.add(Math.max(0, before - entries.size()));
+    }
+}
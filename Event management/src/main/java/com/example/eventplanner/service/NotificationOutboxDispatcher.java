@@ -0,0 +1,96 @@
+// service/NotificationOutboxDispatcher.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.NotificationOutbox;
+import com.example.eventplanner.repo.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains {@link NotificationOutbox} into {@code notifications} on the shared scheduler.
+ * Wakes up right after an enqueueing transaction commits and also polls, so rows left over
+ * from a crash or restart are delivered too. Each batch is insert + delete in one transaction;
+ * a wake-up and a poll may overlap, the batches they lock are disjoint (SKIP LOCKED).
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outbox;
+    private final NotificationService notifications;
+    private final TaskScheduler scheduler;
+    private final TransactionTemplate tx;
+
+    @Value("${app.notifications.outbox.batch-size:500}")
+    private int batchSize;
+
+    // one queued wake-up at a time: a transaction writing N outbox rows publishes N events
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outbox, NotificationService notifications,
+                                        TaskScheduler scheduler, PlatformTransactionManager txManager) {
+        this.outbox = outbox;
+        this.notifications = notifications;
+        this.scheduler = scheduler;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.notifications.outbox.poll-ms:1000}",
+               fixedDelayString = "${app.notifications.outbox.poll-ms:1000}")
+    public void poll() {
+        drainSafely();
+    }
+
+    /**
+     * Called after a transaction that wrote outbox rows has committed, once per row. Wake-ups
+     * are coalesced: while one is queued, more are dropped. The flag is cleared before the
+     * drain starts, so rows committed during a drain still get a wake-up of their own.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(NotificationOutbox row) {
+        if (!wakeQueued.compareAndSet(false, true)) return;
+        try {
+            scheduler.schedule(() -> {
+                wakeQueued.set(false);
+                drainSafely();
+            }, Instant.now());
+        } catch (TaskRejectedException ex) {
+            wakeQueued.set(false);      // shutting down; the rows wait for the next start
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            int n;
+            do {
+                n = drainBatch();
+            } while (n == batchSize);
+        } catch (Exception ex) {
+            // rows stay in the outbox and are retried on the next poll
+            log.warn("Notification outbox drain failed", ex);
+        }
+    }
+
+    private int drainBatch() {
+        Integer n = tx.execute(status -> {
+            List<NotificationOutbox> batch = outbox.lockBatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) return 0;
+            notifications.deliver(batch);
+            outbox.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        return n == null ? 0 : n;
+    }
+}
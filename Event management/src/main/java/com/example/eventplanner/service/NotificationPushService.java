@@ -0,0 +1,103 @@
+// service/NotificationPushService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.dto.NotificationView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Sent Events fan-out of unread counts and new notifications, per recipient.
+ *
+ * A heartbeat comment every {@code app.notifications.stream.heartbeat-seconds} keeps proxies
+ * from closing idle streams and finds clients that went away without closing theirs: a failed
+ * send drops the emitter, and a recipient's entry goes once its last emitter is gone.
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    private static final long TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PreDestroy
+    void stop() {
+        emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+    }
+
+    public SseEmitter subscribe(Long recipientId, long unread) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+        emitters.compute(recipientId, (id, set) -> {
+            Set<SseEmitter> s = set != null ? set : new CopyOnWriteArraySet<>();
+            s.add(emitter);
+            return s;
+        });
+        Runnable remove = () -> remove(recipientId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+        send(recipientId, emitter, "unread", unread);
+        return emitter;
+    }
+
+    public void publishUnread(Long recipientId, long unread) {
+        broadcast(recipientId, "unread", unread);
+    }
+
+    public void publishNotification(Long recipientId, NotificationView view) {
+        broadcast(recipientId, "notification", view);
+    }
+
+    private void broadcast(Long recipientId, String name, Object data) {
+        Set<SseEmitter> set = emitters.get(recipientId);
+        if (set == null) return;
+        for (SseEmitter emitter : set) send(recipientId, emitter, name, data);
+    }
+
+    @Scheduled(initialDelayString = "${app.notifications.stream.heartbeat-seconds:25}",
+               fixedRateString = "${app.notifications.stream.heartbeat-seconds:25}", timeUnit = TimeUnit.SECONDS)
+    public void ping() {
+        emitters.forEach((recipientId, set) -> {
+            for (SseEmitter emitter : set) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException ex) {
+                    drop(recipientId, emitter, ex);
+                }
+            }
+        });
+    }
+
+    private void send(Long recipientId, SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            drop(recipientId, emitter, ex);
+        }
+    }
+
+    private void drop(Long recipientId, SseEmitter emitter, Exception ex) {
+        // client went away; drop it quietly
+        log.debug("Dropping SSE client of recipient {}: {}", recipientId, ex.getMessage());
+        remove(recipientId, emitter);
+        emitter.completeWithError(ex);
+    }
+
+    private void remove(Long recipientId, SseEmitter emitter) {
+        emitters.computeIfPresent(recipientId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
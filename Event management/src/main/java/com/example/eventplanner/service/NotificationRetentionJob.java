@@ -0,0 +1,69 @@
+// service/NotificationRetentionJob.java
+package com.example.eventplanner.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps {@code notifications} small: read notifications older than {@code days} are moved
+ * to {@code notifications_archive} in batches, one short transaction per batch.
+ * Unread notifications are never archived. Runs on {@code app.notifications.retention.cron}.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationService notifications;
+    private final Counter archivedTotal;
+
+    @Value("${app.notifications.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.retention.days:90}")
+    private int days;
+
+    @Value("${app.notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicLong lastRunArchived = new AtomicLong();
+
+    public NotificationRetentionJob(NotificationService notifications, MeterRegistry registry) {
+        this.notifications = notifications;
+        Gauge.builder("notification.retention.last.run.archived", lastRunArchived, AtomicLong::get)
+                .description("Notifications archived by the last run").register(registry);
+        this.archivedTotal = Counter.builder("notification.archived")
+                .description("Notifications moved to the archive").register(registry);
+    }
+
+    public int run() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(days);
+        int total = 0;
+        int n;
+        do {
+            n = notifications.archiveReadBefore(cutoff, batchSize);
+            total += n;
+        } while (n > 0 && !Thread.currentThread().isInterrupted());
+        lastRunArchived.set(total);
+        archivedTotal.increment(total);
+        if (total > 0) log.info("Archived {} read notifications older than {} days", total, days);
+        return total;
+    }
+
+    @Scheduled(cron = "${app.notifications.retention.cron:0 30 3 * * *}")    // nightly
+    public void runScheduled() {
+        if (!enabled) return;
+        try {
+            run();
+        } catch (Exception ex) {
+            log.warn("Notification retention run failed", ex);
+        }
+    }
+}
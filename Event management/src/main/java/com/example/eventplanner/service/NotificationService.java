@@ -3,53 +3,237 @@ package com.example.eventplanner.service;
 
 import com.example.eventplanner.domain.Event;
 import com.example.eventplanner.domain.Notification;
+import com.example.eventplanner.domain.NotificationOutbox;
 import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.dto.MovedEvent;
+import com.example.eventplanner.dto.NotificationPage;
+import com.example.eventplanner.dto.NotificationView;
+import com.example.eventplanner.repo.NotificationKeyRow;
+import com.example.eventplanner.repo.NotificationOutboxRepository;
 import com.example.eventplanner.repo.NotificationRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class NotificationService {
 
     private final NotificationRepository repo;
+    private final UnreadCounters unread;
+    private final NotificationPushService push;
+    private final NotificationOutboxRepository outbox;
+    private final ApplicationEventPublisher publisher;
+    private final JdbcTemplate jdbc;
+    private final PlannerViewVersions viewVersions;
+    private final PlannerDashboardService dashboards;
 
     // ----- existing planner-side methods -----
     public long unreadCount(Staff u) {
-        return repo.countByRecipientAndReadFlagFalse(u);
+        return unread.get(u.getId(), () -> repo.countByRecipientIdAndReadFlagFalse(u.getId()));
     }
 
     public List<Notification> latestFor(Staff u) {
         return repo.findTop20ByRecipientOrderByCreatedAtDesc(u);
     }
 
-    public void markRead(Long id) {
-        repo.findById(id).ifPresent(n -> { n.setReadFlag(true); repo.save(n); });
+    /**
+     * Marks the given notifications of {@code u} as read with one UPDATE (no load, no save).
+     * Ids that are unknown, already read or someone else's are ignored.
+     */
+    @Transactional
+    public int markRead(Staff u, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return 0;
+        int changed = repo.markRead(u.getId(), ids, OffsetDateTime.now());
+        if (changed == 0) return 0;
+        unread.add(u.getId(), -changed);
+        dashboards.unreadChanged(u.getId(), -changed);
+        viewVersions.touch(u.getId());
+        TxHooks.afterCommit(() -> push.publishUnread(u.getId(), unreadCount(u)));
+        return changed;
     }
 
-    // ===== Helper used by AdminController (generic) =====
-    private void notify(String title, String type, String message, Staff recipient) {
-        Notification n = new Notification();
-        n.setTitle(title);                 // <-- REQUIRED (DB NOT NULL)
-        n.setType(type);                   // <-- REQUIRED if NOT NULL in DB
-        n.setMessage(message);             // good to have
-        n.setRecipient(recipient);         // who receives it
-        n.setReadFlag(false);              // default unread
-        repo.save(n);
+    /** Marks every unread notification of {@code u} as read in one statement. */
+    @Transactional
+    public int markAllRead(Staff u) {
+        int changed = repo.markAllRead(u, OffsetDateTime.now());
+        unread.add(u.getId(), -changed);
+        dashboards.unreadChanged(u.getId(), -changed);
+        if (changed > 0) viewVersions.touch(u.getId());
+        if (changed > 0) TxHooks.afterCommit(() -> push.publishUnread(u.getId(), unreadCount(u)));
+        return changed;
     }
 
-    // ===== Specific admin helpers =====
-    public void notifyApproved(Event e, String notes) {
-        String msg = "Event '" + e.getTitle() + "' was approved"
+    /** Newest-first history of {@code u}; {@code cursor} is the previous page's {@code nextCursor}. */
+    @Transactional(readOnly = true)
+    public NotificationPage history(Staff u, String cursor, int size) {
+        Pageable page = PageRequest.of(0, size + 1);    // one extra row tells whether there is a next page
+        List<NotificationView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repo.findHistory(u.getId(), page);
+        } else {
+            OffsetDateTime createdAt;
+            long id;
+            try {
+                String[] c = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                createdAt = OffsetDateTime.parse(c[0]);
+                id = Long.parseLong(c[1]);
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            rows = repo.findHistoryBefore(u.getId(), createdAt, id, page);
+        }
+        if (rows.size() <= size) return new NotificationPage(rows, null);
+        List<NotificationView> items = rows.subList(0, size);
+        NotificationView last = items.get(size - 1);
+        String next = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (last.getCreatedAt() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        return new NotificationPage(new ArrayList<>(items), next);
+    }
+
+    /**
+     * Retention: moves up to {@code limit} read notifications created before {@code cutoff}
+     * into {@code notifications_archive} (insert-select + delete, one transaction).
+     */
+    @Transactional
+    public int archiveReadBefore(OffsetDateTime cutoff, int limit) {
+        List<NotificationKeyRow> rows = repo.findReadBefore(cutoff, PageRequest.of(0, limit));
+        if (rows.isEmpty()) return 0;
+        List<Long> ids = rows.stream().map(NotificationKeyRow::getId).toList();
+        repo.copyToArchive(ids, OffsetDateTime.now());
+        int n = repo.deleteByIdIn(ids);
+        rows.stream().map(NotificationKeyRow::getRecipientId).distinct().forEach(viewVersions::touch);
+        return n;
+    }
+
+    /** Opens a live stream of unread-count and new-notification events for {@code u}. */
+    public SseEmitter subscribe(Staff u) {
+        return push.subscribe(u.getId(), unreadCount(u));
+    }
+
+    // ===== Outbox: written in the caller's transaction, delivered by NotificationOutboxDispatcher =====
+    private void notify(NotificationOutbox o) {
+        outbox.save(o);
+        publisher.publishEvent(o);         // wakes the dispatcher after commit
+    }
+
+    private static NotificationOutbox intent(String title, String type, String message, Long recipientId) {
+        NotificationOutbox o = new NotificationOutbox();
+        o.setTitle(title);
+        o.setType(type);
+        o.setMessage(message);
+        o.setRecipientId(recipientId);
+        return o;
+    }
+
+    private static NotificationOutbox approved(String title, Long plannerId, String notes) {
+        String msg = "Event '" + title + "' was approved"
                 + ((notes != null && !notes.isBlank()) ? ": " + notes : "");
-        notify("Event Approved", "APPROVED", msg, e.getPlanner());
+        return intent("Event Approved", "APPROVED", msg, plannerId);
     }
 
-    public void notifyRejected(Event e, String reason) {
+    private static NotificationOutbox rejected(String title, Long plannerId, String reason) {
         String safeReason = (reason != null && !reason.isBlank()) ? reason : "No reason provided";
-        String msg = "Event '" + e.getTitle() + "' was rejected: " + safeReason;
-        notify("Event Rejected", "REJECTED", msg, e.getPlanner());
+        String msg = "Event '" + title + "' was rejected: " + safeReason;
+        return intent("Event Rejected", "REJECTED", msg, plannerId);
+    }
+
+    private static NotificationOutbox completed(MovedEvent e) {
+        return intent("Event Completed", "COMPLETED",
+                "Event '" + e.title() + "' on " + e.eventDate() + " was marked completed", e.plannerId());
+    }
+
+    private static final String INSERT_SQL =
+            "insert into notifications (recipient_id, title, message, type, read_flag, created_at, version, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, 0, ?)";
+
+    /** Inserts a drained outbox batch into {@code notifications} with one JDBC batch. */
+    @Transactional
+    public void deliver(List<NotificationOutbox> batch) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationOutbox o = batch.get(i);
+                        ps.setLong(1, o.getRecipientId());
+                        ps.setString(2, o.getTitle());
+                        ps.setString(3, o.getMessage());
+                        ps.setString(4, o.getType());
+                        ps.setBoolean(5, false);
+                        ps.setObject(6, o.getCreatedAt());
+                        ps.setObject(7, o.getCreatedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> ids = keys.getKeyList();
+        Map<Long, Long> perRecipient = new HashMap<>();
+        for (NotificationOutbox o : batch) perRecipient.merge(o.getRecipientId(), 1L, Long::sum);
+        perRecipient.forEach(unread::add);
+        perRecipient.forEach(dashboards::unreadChanged);
+        perRecipient.keySet().forEach(viewVersions::touch);
+
+        TxHooks.afterCommit(() -> {
+            for (int i = 0; i < batch.size(); i++) {
+                NotificationOutbox o = batch.get(i);
+                Long id = i < ids.size() ? ((Number) ids.get(i).values().iterator().next()).longValue() : null;
+                push.publishNotification(o.getRecipientId(),
+                        new NotificationView(id, o.getTitle(), o.getMessage(), o.getType(), o.getCreatedAt(), false));
+            }
+            perRecipient.keySet().forEach(r -> push.publishUnread(r, unread.get(r, () -> repo.countByRecipientIdAndReadFlagFalse(r))));
+        });
+    }
+
+    // ===== Specific admin helpers (join the caller's transaction) =====
+    @Transactional
+    public void notifyApproved(Event e, String notes) {
+        notify(approved(e.getTitle(), e.getPlanner().getId(), notes));
+    }
+
+    @Transactional
+    public void notifyRejected(Event e, String reason) {
+        notify(rejected(e.getTitle(), e.getPlanner().getId(), reason));
+    }
+
+    // ===== Bulk admin helpers: one JDBC batch straight into notifications =====
+    @Transactional
+    public void notifyApprovedAll(List<MovedEvent> events, String notes) {
+        if (!events.isEmpty()) deliver(events.stream().map(e -> approved(e.title(), e.plannerId(), notes)).toList());
+    }
+
+    @Transactional
+    public void notifyRejectedAll(List<MovedEvent> events, String reason) {
+        if (!events.isEmpty()) deliver(events.stream().map(e -> rejected(e.title(), e.plannerId(), reason)).toList());
+    }
+
+    @Transactional
+    public void notifyCompletedAll(List<MovedEvent> events) {
+        if (!events.isEmpty()) deliver(events.stream().map(NotificationService::completed).toList());
     }
 }
@@ -0,0 +1,223 @@
+// service/PendingQueuePushService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.repo.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Sent Events feed of the admin pending queue, so open admin pages apply changes
+ * instead of reloading. Two kinds of change, each with a sequence number as the SSE id:
+ * <ul>
+ *   <li>{@code upsert}: list rows of events that entered the queue or were edited there</li>
+ *   <li>{@code remove}: ids that left it (approved, rejected, cancelled) and their new status</li>
+ * </ul>
+ * The last {@code app.pending-stream.replay} changes are kept, so a client that reconnects
+ * (Last-Event-ID) or subscribes with the sequence its page was rendered at ({@code since}) gets
+ * exactly what it missed; if that is no longer available it gets {@code reset} and reloads.
+ *
+ * Changes are recorded after the writer commits and sent from one virtual thread, in order,
+ * so a slow client never holds up the request that approved an event. Upserts carry ids and
+ * their rows are loaded when sent (current state; stale ones are skipped), once per change
+ * however many admins are connected. Idle connections cost an emitter and a periodic
+ * heartbeat, no thread.
+ */
+@Slf4j
+@Service
+public class PendingQueuePushService {
+
+    private static final long TIMEOUT_MS = 60 * 60 * 1000L;
+
+    /** Payload of a {@code remove} change. */
+    public record Removed(List<Long> ids, EventStatus status) {}
+
+    private record Change(long seq, String name, Object data) {}
+
+    private final EventRepository events;
+    private final int replaySize;
+    private final int maxUpsert;
+
+    private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+    private final ArrayDeque<Change> replay = new ArrayDeque<>();
+    private long seq;
+
+    // one sender thread, not the shared scheduler: changes must reach every client in seq order
+    private final ExecutorService sender =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("pending-queue-push").factory());
+
+    public PendingQueuePushService(EventRepository events, MeterRegistry registry,
+                                   @Value("${app.pending-stream.replay:1000}") int replaySize,
+                                   @Value("${app.pending-stream.max-upsert:200}") int maxUpsert) {
+        this.events = events;
+        this.replaySize = replaySize;
+        this.maxUpsert = maxUpsert;
+        Gauge.builder("app.pending.stream.subscribers", emitters, Set::size)
+                .description("Open admin pending-queue streams").register(registry);
+    }
+
+    /** Queued behind pending sends, so a ping never interleaves with a change. */
+    @Scheduled(initialDelayString = "${app.pending-stream.heartbeat-seconds:25}",
+               fixedRateString = "${app.pending-stream.heartbeat-seconds:25}", timeUnit = TimeUnit.SECONDS)
+    public void heartbeat() {
+        if (!sender.isShutdown()) sender.execute(this::ping);
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdown();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    // ===== Subscribers =======================================================
+
+    /** Sequence of the latest change; render it with the queue and subscribe with {@code since}. */
+    public synchronized long currentSeq() {
+        return seq;
+    }
+
+    /** Opens the feed, replaying changes after {@code since} (null: only new changes). */
+    public SseEmitter subscribe(Long since) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+        Runnable remove = () -> emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+        sender.execute(() -> {
+            // on the sender thread, so nothing is broadcast between the replay and joining
+            List<Change> missed = since == null ? List.of() : missedSince(since);
+            if (missed == null) {
+                send(emitter, new Change(currentSeq(), "reset", Map.of()));
+            } else {
+                for (Change c : missed) {
+                    Change loaded = load(c);
+                    if (loaded != null && !send(emitter, loaded)) return;
+                }
+            }
+            emitters.add(emitter);
+        });
+        return emitter;
+    }
+
+    public int subscribers() {
+        return emitters.size();
+    }
+
+    // ===== Changes (call inside the writer's transaction) ====================
+
+    /**
+     * Into PENDING (or edited while in it) is an upsert; out of it, or out of a state that may
+     * have been PENDING, a removal.
+     */
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        List<Long> upserted = new ArrayList<>();
+        Map<EventStatus, List<Long>> removed = new HashMap<>();
+        for (EventChanged c : changes.changes()) {
+            if (c.to() == EventStatus.PENDING) upserted.add(c.id());
+            else if (c.kind() != EventChanged.Kind.CREATED && (c.from() == EventStatus.PENDING || c.from() == null)) {
+                removed.computeIfAbsent(c.to(), k -> new ArrayList<>()).add(c.id());
+            }
+        }
+        upserted(upserted);
+        removed.forEach((status, ids) -> removed(ids, status));
+    }
+
+    /** Events that entered the pending queue or changed while in it. */
+    public void upserted(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        if (ids.size() > maxUpsert) {
+            TxHooks.afterCommit(() -> publish("reset", Map.of()));
+            return;
+        }
+        List<Long> copy = List.copyOf(ids);
+        TxHooks.afterCommit(() -> publish("upsert", copy));
+    }
+
+    /** Events that may have left the queue; clients drop ids they do not show. */
+    public void removed(Collection<Long> ids, EventStatus status) {
+        if (ids.isEmpty()) return;
+        Removed r = new Removed(List.copyOf(ids), status);
+        TxHooks.afterCommit(() -> publish("remove", r));
+    }
+
+    private void publish(String name, Object data) {
+        Change c;
+        synchronized (this) {
+            c = new Change(++seq, name, data);
+            replay.addLast(c);
+            while (replay.size() > replaySize) replay.removeFirst();
+        }
+        sender.execute(() -> {
+            if (emitters.isEmpty()) return;
+            Change loaded = load(c);
+            if (loaded != null) emitters.forEach(e -> send(e, loaded));
+        });
+    }
+
+    /** Upsert ids -> rows still PENDING, oldest first; null when none are left, reset if unreadable. */
+    @SuppressWarnings("unchecked")
+    private Change load(Change c) {
+        if (!c.name().equals("upsert")) return c;
+        try {
+            List<EventListItem> rows = events.findListItemsByIdIn((List<Long>) c.data()).stream()
+                    .filter(e -> e.getStatus() == EventStatus.PENDING)
+                    .sorted(Comparator.comparing(EventListItem::getCreatedAt).thenComparing(EventListItem::getId))
+                    .toList();
+            return rows.isEmpty() ? null : new Change(c.seq(), c.name(), rows);
+        } catch (RuntimeException ex) {
+            log.warn("Could not load pending-queue rows, clients will reload", ex);
+            return new Change(c.seq(), "reset", Map.of());
+        }
+    }
+
+    /** Changes after {@code since}, or null when some of them were already dropped. */
+    private synchronized List<Change> missedSince(long since) {
+        if (since >= seq) return List.of();
+        if (replay.isEmpty() || replay.peekFirst().seq() > since + 1) return null;
+        return replay.stream().filter(c -> c.seq() > since).toList();
+    }
+
+    private void ping() {
+        for (SseEmitter e : emitters) {
+            try {
+                e.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException ex) {
+                drop(e, ex);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, Change c) {
+        try {
+            emitter.send(SseEmitter.event().id(Long.toString(c.seq())).name(c.name()).data(c.data(), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            drop(emitter, ex);
+            return false;
+        }
+    }
+
+    private void drop(SseEmitter emitter, Exception ex) {
+        // client went away; drop it quietly
+        log.debug("Dropping pending-queue SSE client: {}", ex.getMessage());
+        emitters.remove(emitter);
+        emitter.completeWithError(ex);
+    }
+}
@@ -0,0 +1,352 @@
+// service/PlannerDashboardService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.PlannerDashboard;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.dto.PlannerDashboardView;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.repo.NotificationRepository;
+import com.example.eventplanner.repo.PlannerDashboardRepository;
+import com.example.eventplanner.repo.StatusCount;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Maintains the {@code planner_dashboard} read model: per planner, event counts by status,
+ * unread notifications, the newest events and the next upcoming ones, so the dashboard is
+ * one primary-key lookup however many events a planner owns.
+ *
+ * Writers call in from inside their transaction. Counters move with a single arithmetic
+ * UPDATE; the two lists are recomputed once per planner just before commit, after locking
+ * the row, so concurrent writers serialize on it and the row commits with the data it
+ * describes. A planner without a row (new, or never built) is built after commit.
+ *
+ * {@link #rebuild(Long)} / {@link #rebuildAll()} recompute rows from scratch for recovery
+ * ({@code POST /admin/dashboards/rebuild}); missing rows are also built on startup.
+ */
+@Slf4j
+@Service
+public class PlannerDashboardService {
+
+    static final int RECENT = 10;
+    static final int UPCOMING = 10;             // stored; fewer are shown once dates pass
+    static final int UPCOMING_SHOWN = 5;
+    static final Set<EventStatus> UPCOMING_STATUSES = EnumSet.of(EventStatus.PENDING, EventStatus.PUBLISHED);
+
+    private static final String LOCK_SQL = "select planner_id from planner_dashboard where planner_id = ? for update";
+    private static final String COUNT_COLUMNS =
+            "draft_count, pending_count, published_count, rejected_count, cancelled_count, completed_count";
+
+    /** JSON shape of one list entry (flat, unlike {@link EventListItem}). */
+    record Item(Long id, String title, LocalDate eventDate, String venue, EventCategory category,
+                EventStatus status, String rejectionReason, OffsetDateTime createdAt,
+                Long plannerId, String plannerName) {
+
+        static Item of(EventListItem e) {
+            return new Item(e.getId(), e.getTitle(), e.getEventDate(), e.getVenue(), e.getCategory(), e.getStatus(),
+                    e.getRejectionReason(), e.getCreatedAt(), e.getPlanner().getId(), e.getPlanner().getName());
+        }
+
+        EventListItem toListItem() {
+            return new EventListItem(id, title, eventDate, venue, category, status, rejectionReason, createdAt,
+                    plannerId, plannerName);
+        }
+    }
+
+    private static final TypeReference<List<Item>> ITEMS = new TypeReference<>() {};
+
+    private final PlannerDashboardRepository dashboards;
+    private final EventRepository events;
+    private final NotificationRepository notifications;
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate requiresNew;
+
+    /** Per transaction: planner id -> whether counters need a full recount (not just lists). */
+    private final Object pendingKey = new Object();
+
+    public PlannerDashboardService(PlannerDashboardRepository dashboards, EventRepository events,
+                                   NotificationRepository notifications, JdbcTemplate jdbc,
+                                   ObjectMapper mapper, PlatformTransactionManager txManager) {
+        this.dashboards = dashboards;
+        this.events = events;
+        this.notifications = notifications;
+        this.jdbc = jdbc;
+        this.mapper = mapper;
+        this.requiresNew = new TransactionTemplate(txManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ===== Reads =============================================================
+
+    /** The planner's dashboard; a missing row is built first. */
+    public PlannerDashboardView get(Long plannerId) {
+        PlannerDashboard d = dashboards.findById(plannerId).orElse(null);
+        if (d == null) {
+            rebuild(plannerId);
+            d = dashboards.findById(plannerId).orElse(null);
+        }
+        if (d == null) return new PlannerDashboardView(stats(new long[EventStatus.values().length]), 0, List.of(), List.of());
+
+        LocalDate today = LocalDate.now();
+        List<EventListItem> upcoming = readItems(d.getUpcomingJson()).stream()
+                .filter(e -> e.getEventDate() != null && !e.getEventDate().isBefore(today))
+                .limit(UPCOMING_SHOWN)
+                .toList();
+        return new PlannerDashboardView(stats(counts(d)), d.getUnreadCount(), readItems(d.getRecentJson()), upcoming);
+    }
+
+    // ===== Writes (inside the writer's transaction) ==========================
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        changes.statusMoves().forEach((m, n) -> statusChanged(m.plannerId(), m.from(), m.to(), n));
+        changes.plannersWithUnknownMoves().forEach(this::statusesChanged);
+        changes.of(EventChanged.Kind.UPDATED).forEach(c -> eventsChanged(c.plannerId()));
+    }
+
+    /**
+     * {@code n} of the planner's events moved from {@code from} to {@code to}
+     * ({@code null} from = created, {@code null} to = deleted).
+     */
+    public void statusChanged(Long plannerId, EventStatus from, EventStatus to, long n) {
+        if (plannerId == null || n == 0) return;
+        if (from != to) {
+            List<String> sets = new ArrayList<>();
+            List<Object> args = new ArrayList<>();
+            if (from != null) { sets.add(column(from) + " = " + column(from) + " - ?"); args.add(n); }
+            if (to != null) { sets.add(column(to) + " = " + column(to) + " + ?"); args.add(n); }
+            args.add(OffsetDateTime.now());
+            args.add(plannerId);
+            int rows = jdbc.update("update planner_dashboard set " + String.join(", ", sets)
+                    + ", updated_at = ? where planner_id = ?", args.toArray());
+            if (rows == 0) {
+                mark(plannerId, true);
+                return;
+            }
+        }
+        mark(plannerId, false);
+    }
+
+    /** Status changes whose source state is not known exactly: counters are recomputed before commit. */
+    public void statusesChanged(Long plannerId) {
+        if (plannerId != null) mark(plannerId, true);
+    }
+
+    /** Fields shown in the lists (title, date, venue, ...) changed. */
+    public void eventsChanged(Long plannerId) {
+        if (plannerId != null) mark(plannerId, false);
+    }
+
+    public void unreadChanged(Long staffId, long delta) {
+        if (staffId == null || delta == 0) return;
+        int rows = jdbc.update("update planner_dashboard set unread_count = unread_count + ?, updated_at = ? where planner_id = ?",
+                delta, OffsetDateTime.now(), staffId);
+        if (rows == 0) mark(staffId, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mark(Long plannerId, boolean recount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild(plannerId);
+            return;
+        }
+        Map<Long, Boolean> pending = (Map<Long, Boolean>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            Map<Long, Boolean> created = new LinkedHashMap<>();
+            List<Long> missing = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    created.forEach((id, full) -> {
+                        if (!refresh(id, full)) missing.add(id);
+                    });
+                }
+
+                @Override
+                public void afterCommit() {
+                    missing.forEach(PlannerDashboardService.this::rebuildQuietly);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = created;
+        }
+        pending.merge(plannerId, recount, Boolean::logicalOr);
+    }
+
+    /** Locks the row and rewrites lists (and counters); false when the planner has no row yet. */
+    private boolean refresh(Long plannerId, boolean recount) {
+        if (jdbc.queryForList(LOCK_SQL, Long.class, plannerId).isEmpty()) return false;
+        Snapshot s = load(plannerId, recount);
+        if (recount) {
+            updateAll(plannerId, s);
+        } else {
+            jdbc.update("update planner_dashboard set recent_json = ?, upcoming_json = ?, updated_at = ? where planner_id = ?",
+                    s.recentJson(), s.upcomingJson(), OffsetDateTime.now(), plannerId);
+        }
+        return true;
+    }
+
+    // ===== Rebuild ===========================================================
+
+    /**
+     * Recomputes one planner's row from {@code events} and {@code notifications} in its own
+     * transaction. The row lock (or, for a new row, the primary key) orders concurrent rebuilds
+     * and writers, so the last one to commit has seen every earlier commit.
+     */
+    public void rebuild(Long plannerId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                requiresNew.executeWithoutResult(s -> write(plannerId));
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt == 2) throw ex;    // lost an insert race: lock the winner's row and recompute
+            }
+        }
+    }
+
+    /** Recomputes every planner's row; returns how many were rebuilt. */
+    public int rebuildAll() {
+        List<Long> ids = dashboards.findAllPlannerIds();
+        ids.forEach(this::rebuildQuietly);
+        log.info("Planner dashboards rebuilt: {}", ids.size());
+        return ids.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildMissingInBackground() {
+        Thread.ofVirtual().name("planner-dashboard-build").start(() -> {
+            try {
+                List<Long> ids = dashboards.findPlannersWithoutDashboard();
+                ids.forEach(this::rebuildQuietly);
+                if (!ids.isEmpty()) log.info("Planner dashboards built: {}", ids.size());
+            } catch (Exception ex) {
+                log.error("Planner dashboard build failed", ex);
+            }
+        });
+    }
+
+    private void rebuildQuietly(Long plannerId) {
+        try {
+            rebuild(plannerId);
+        } catch (Exception ex) {
+            log.warn("Planner dashboard rebuild failed for {}", plannerId, ex);
+        }
+    }
+
+    private void write(Long plannerId) {
+        boolean exists = !jdbc.queryForList(LOCK_SQL, Long.class, plannerId).isEmpty();
+        if (!exists && !dashboards.isPlanner(plannerId)) return;
+        Snapshot s = load(plannerId, true);
+        if (exists) {
+            updateAll(plannerId, s);
+        } else {
+            long[] c = s.counts();
+            jdbc.update("insert into planner_dashboard (planner_id, " + COUNT_COLUMNS
+                            + ", unread_count, recent_json, upcoming_json, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    plannerId, c[EventStatus.DRAFT.ordinal()], c[EventStatus.PENDING.ordinal()],
+                    c[EventStatus.PUBLISHED.ordinal()], c[EventStatus.REJECTED.ordinal()],
+                    c[EventStatus.CANCELLED.ordinal()], c[EventStatus.COMPLETED.ordinal()],
+                    s.unread(), s.recentJson(), s.upcomingJson(), OffsetDateTime.now());
+        }
+    }
+
+    // ===== Loading ===========================================================
+
+    private record Snapshot(long[] counts, long unread, String recentJson, String upcomingJson) {}
+
+    /** Lists always; counters and unread only when {@code full}. */
+    private Snapshot load(Long plannerId, boolean full) {
+        long[] counts = null;
+        long unread = 0;
+        if (full) {
+            counts = new long[EventStatus.values().length];
+            for (StatusCount c : events.countByStatusForPlanner(plannerId)) counts[c.getStatus().ordinal()] = c.getTotal();
+            unread = notifications.countByRecipientIdAndReadFlagFalse(plannerId);
+        }
+        List<EventListItem> recent = events.findRecentListItems(plannerId, PageRequest.of(0, RECENT));
+        List<EventListItem> upcoming = events.findUpcomingListItems(plannerId, UPCOMING_STATUSES, LocalDate.now(),
+                PageRequest.of(0, UPCOMING));
+        return new Snapshot(counts, unread, writeItems(recent), writeItems(upcoming));
+    }
+
+    private void updateAll(Long plannerId, Snapshot s) {
+        long[] c = s.counts();
+        jdbc.update("update planner_dashboard set draft_count = ?, pending_count = ?, published_count = ?, "
+                        + "rejected_count = ?, cancelled_count = ?, completed_count = ?, unread_count = ?, "
+                        + "recent_json = ?, upcoming_json = ?, updated_at = ? where planner_id = ?",
+                c[EventStatus.DRAFT.ordinal()], c[EventStatus.PENDING.ordinal()],
+                c[EventStatus.PUBLISHED.ordinal()], c[EventStatus.REJECTED.ordinal()],
+                c[EventStatus.CANCELLED.ordinal()], c[EventStatus.COMPLETED.ordinal()],
+                s.unread(), s.recentJson(), s.upcomingJson(), OffsetDateTime.now(), plannerId);
+    }
+
+    private static String column(EventStatus status) {
+        return status.name().toLowerCase(Locale.ROOT) + "_count";
+    }
+
+    private static long[] counts(PlannerDashboard d) {
+        long[] c = new long[EventStatus.values().length];
+        c[EventStatus.DRAFT.ordinal()] = d.getDraftCount();
+        c[EventStatus.PENDING.ordinal()] = d.getPendingCount();
+        c[EventStatus.PUBLISHED.ordinal()] = d.getPublishedCount();
+        c[EventStatus.REJECTED.ordinal()] = d.getRejectedCount();
+        c[EventStatus.CANCELLED.ordinal()] = d.getCancelledCount();
+        c[EventStatus.COMPLETED.ordinal()] = d.getCompletedCount();
+        return c;
+    }
+
+    /** Same keys as {@link EventService#statsFor}. */
+    private static Map<String, Long> stats(long[] counts) {
+        Map<String, Long> s = new HashMap<>();
+        long total = 0;
+        for (EventStatus st : EventStatus.values()) {
+            s.put(st.name().toLowerCase() + "Events", counts[st.ordinal()]);
+            total += counts[st.ordinal()];
+        }
+        s.put("totalEvents", total);
+        return s;
+    }
+
+    private String writeItems(List<EventListItem> items) {
+        try {
+            return mapper.writeValueAsString(items.stream().map(Item::of).toList());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<EventListItem> readItems(String json) {
+        if (json == null || json.isEmpty()) return List.of();
+        try {
+            return mapper.readValue(json, ITEMS).stream().map(Item::toListItem).toList();
+        } catch (JsonProcessingException ex) {
+            log.warn("Unreadable planner dashboard list, showing none", ex);
+            return List.of();
+        }
+    }
+}
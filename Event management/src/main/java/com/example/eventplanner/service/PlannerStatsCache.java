@@ -0,0 +1,189 @@
+// service/PlannerStatsCache.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.enums.EventStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-planner event counts by status, kept current by applying each status change
+ * as a delta once its transaction commits.
+ *
+ * Staleness guard: every planner has a generation and an in-flight counter. A change
+ * bumps in-flight as soon as it is recorded and the generation when its transaction
+ * completes. A value loaded from the database is only cached if no change was in flight
+ * and the generation did not move while it was loading, so a snapshot taken before a
+ * commit can never be stored after that commit's delta was (or should have been) applied.
+ *
+ * Bounded like {@link LocalCache}: counts older than {@code app.cache.ttl-seconds} are
+ * reloaded, and past {@code app.cache.max-size} planners the least recently read tenth is
+ * dropped. Only entries with no change in flight are dropped, and a dropped entry is marked
+ * so a change that looked it up just before is re-applied to its replacement.
+ */
+@Component
+public class PlannerStatsCache {
+
+    private static final int STATUSES = EventStatus.values().length;
+
+    private static final class Entry {
+        long[] counts;       // null until loaded
+        long loadedAt;
+        long generation;
+        int inFlight;
+        volatile long readAt;
+        boolean removed;
+    }
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public PlannerStatsCache(@Value("${app.cache.max-size:10000}") int maxSize,
+                             @Value("${app.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+    }
+
+    /** Counts indexed by {@link EventStatus#ordinal()}; {@code loader} runs only on a miss. */
+    public long[] get(Long plannerId, Supplier<long[]> loader) {
+        if (plannerId == null) return loader.get();
+        Entry e = entry(plannerId);
+        long now = System.currentTimeMillis();
+        e.readAt = now;
+        long gen;
+        synchronized (e) {
+            if (e.counts != null && now - e.loadedAt < ttlMillis) return e.counts.clone();
+            e.counts = null;
+            gen = e.generation;
+        }
+        long[] loaded = loader.get();
+        synchronized (e) {
+            if (!e.removed && e.counts == null && e.inFlight == 0 && e.generation == gen) {
+                e.counts = loaded.clone();
+                e.loadedAt = now;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Records that one of the planner's events moved from {@code from} to {@code to}
+     * ({@code null} from = created, {@code null} to = deleted). Inside a transaction the delta
+     * is applied after commit and dropped on rollback.
+     */
+    public void recordChange(Long plannerId, EventStatus from, EventStatus to) {
+        recordChanges(plannerId, from, to, 1);
+    }
+
+    /** Same as {@link #recordChange} for {@code n} events moving together (bulk paths). */
+    public void recordChanges(Long plannerId, EventStatus from, EventStatus to, long n) {
+        if (plannerId == null || from == to || n == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withLive(plannerId, e -> {
+                e.generation++;
+                apply(e, from, to, n);
+            });
+            return;
+        }
+        Entry e = withLive(plannerId, x -> x.inFlight++);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (e) {
+                    e.inFlight--;
+                    e.generation++;
+                    if (status == STATUS_COMMITTED) apply(e, from, to, n);
+                    else if (status == STATUS_UNKNOWN) e.counts = null;   // reload on next read
+                }
+            }
+        });
+    }
+
+    /** Exact moves become deltas; a planner with a move from an unknown state is recounted. */
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        changes.statusMoves().forEach((m, n) -> recordChanges(m.plannerId(), m.from(), m.to(), n));
+        changes.plannersWithUnknownMoves().forEach(this::evict);
+    }
+
+    /** Drops the cached counts for one planner (after commit when inside a transaction). */
+    public void evict(Long plannerId) {
+        if (plannerId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withLive(plannerId, e -> {
+                e.generation++;
+                e.counts = null;
+            });
+            return;
+        }
+        Entry e = withLive(plannerId, x -> x.inFlight++);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (e) {
+                    e.inFlight--;
+                    e.generation++;
+                    e.counts = null;
+                }
+            }
+        });
+    }
+
+    public static long[] empty() {
+        return new long[STATUSES];
+    }
+
+    /** Number of planners currently tracked (loaded or with a change in flight). */
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry entry(Long plannerId) {
+        Entry e = entries.get(plannerId);
+        if (e != null) return e;
+        if (entries.size() >= maxSize) trim();
+        return entries.computeIfAbsent(plannerId, id -> new Entry());
+    }
+
+    /** Runs {@code action} on the planner's entry under its monitor; retries if a trim dropped it in between. */
+    private Entry withLive(Long plannerId, Consumer<Entry> action) {
+        while (true) {
+            Entry e = entry(plannerId);
+            synchronized (e) {
+                if (e.removed) continue;
+                action.accept(e);
+                return e;
+            }
+        }
+    }
+
+    private void trim() {
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(x -> x.getValue().readAt))
+                .limit(Math.max(1, maxSize / 10))
+                .toList()
+                .forEach(x -> {
+                    Entry e = x.getValue();
+                    synchronized (e) {
+                        if (e.inFlight > 0) return;
+                        e.removed = true;
+                        entries.remove(x.getKey(), e);
+                    }
+                });
+    }
+
+    private static void apply(Entry e, EventStatus from, EventStatus to, long n) {
+        if (e.counts == null) return;
+        if (from != null) e.counts[from.ordinal()] -= n;
+        if (to != null) e.counts[to.ordinal()] += n;
+    }
+}
@@ -0,0 +1,60 @@
+// service/PlannerViewVersions.java
+package com.example.eventplanner.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One version number per staff member covering everything their pages show: their events,
+ * their notifications and their own staff row. Writers call {@link #touch} inside the
+ * transaction; the number moves immediately and again after commit, so a page rendered from
+ * pre-commit data can never carry the post-commit version.
+ *
+ * Versions live in memory, per node; the boot stamp makes every tag from a previous run (or
+ * another node) stale. With several nodes the after-commit bump is also broadcast through the
+ * {@link CacheInvalidationTransport}, so a node that did not make the write stops answering
+ * 304 once the broadcast arrives. Without a transport bean this is correct on a single node only.
+ */
+@Component
+public class PlannerViewVersions {
+
+    static final String NAME = "plannerViews";
+
+    private final String boot = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final CacheRegistry registry;
+
+    public PlannerViewVersions(CacheRegistry registry) {
+        this.registry = registry;
+        registry.onInvalidate(NAME, key -> {
+            if (key instanceof Number n) bump(n.longValue());
+        });
+    }
+
+    /** Current aggregate version of {@code staffId}'s views, e.g. {@code "lq3x9k.17"}. */
+    public String current(Long staffId) {
+        AtomicLong v = versions.get(staffId);
+        return boot + "." + (v == null ? 0 : v.get());
+    }
+
+    public void touch(Long staffId) {
+        if (staffId == null) return;
+        bump(staffId);
+        TxHooks.afterCommit(() -> {
+            bump(staffId);
+            registry.broadcast(NAME, staffId);
+        });
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        changes.planners().forEach(this::touch);
+    }
+
+    private void bump(Long staffId) {
+        versions.computeIfAbsent(staffId, k -> new AtomicLong()).incrementAndGet();
+    }
+}
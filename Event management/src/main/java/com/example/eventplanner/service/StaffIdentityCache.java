@@ -0,0 +1,53 @@
+// service/StaffIdentityCache.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Staff;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Principal name -> resolved {@link Staff}, bounded by size and TTL. Misses are cached too
+ * (as empty), so unknown principals do not hit the database on every request either.
+ * {@link StaffService} evicts an entry after any write to that staff row commits.
+ */
+@Component
+public class StaffIdentityCache {
+
+    private record Entry(Staff staff, long expiresAt) {}
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.identity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.identity-cache.max-size:10000}")
+    private int maxSize;
+
+    public Optional<Staff> get(String email, Function<String, Optional<Staff>> loader) {
+        long now = System.currentTimeMillis();
+        Entry e = entries.get(email);
+        if (e == null || e.expiresAt() < now) {
+            e = new Entry(loader.apply(email).orElse(null), now + ttlSeconds * 1000);
+            if (entries.size() >= maxSize) trim(now);
+            entries.put(email, e);
+        }
+        return Optional.ofNullable(e.staff());
+    }
+
+    public void evict(String email) {
+        if (email != null) entries.remove(email);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void trim(long now) {
+        entries.values().removeIf(x -> x.expiresAt() < now);
+        if (entries.size() >= maxSize) entries.clear();
+    }
+}
@@ -7,12 +7,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class StaffService {
 
     private final StaffRepository repo;
+    private final StaffIdentityCache identities;
+    private final PlannerViewVersions viewVersions;
+    private final EntityCaches caches;
 
     // --- existing method used by PlannerController ---
     @Transactional(readOnly = true)
@@ -20,19 +25,47 @@ public class StaffService {
         return repo.findByEmail(email).orElseThrow();
     }
 
+    /** Cached lookup for the logged-in principal; no exception when the row is missing. */
+    public Optional<Staff> findCachedByEmail(String email) {
+        return identities.get(email, repo::findByEmail);
+    }
+
     // --- minimal helpers for Admin dashboard (safe to add) ---
-    @Transactional(readOnly = true)
+    /** Cached, read-only list (admin dashboard renders it on every request). */
     public List<Staff> findAll() {
-        return repo.findAll();
+        return caches.allStaff(repo::findAll);
     }
 
+    /** Fresh managed-then-detached row; use this one before modifying and saving. */
     @Transactional(readOnly = true)
     public Staff findById(Long id) {
         return repo.findById(id).orElseThrow();
     }
 
+    /** Cached row for display only; never modify the returned instance. */
+    public Staff findCachedById(Long id) {
+        Staff s = caches.staff(id, k -> repo.findById(k).orElse(null));
+        if (s == null) throw new NoSuchElementException("No staff " + id);
+        return s;
+    }
+
+    /** Stores a re-encoded password hash (login upgrade); empty when there is no such staff row. */
+    @Transactional
+    public Optional<Staff> updatePasswordHash(String email, String passwordHash) {
+        return repo.findByEmail(email).map(s -> {
+            s.setPasswordHash(passwordHash);
+            return save(s);
+        });
+    }
+
     @Transactional
     public Staff save(Staff staff) {
-        return repo.save(staff);
+        Staff saved = repo.save(staff);
+        // evict now and again after commit, so no request caches the pre-commit row
+        identities.evict(saved.getEmail());
+        TxHooks.afterCommit(() -> identities.evict(saved.getEmail()));
+        viewVersions.touch(saved.getId());
+        caches.staffChanged(saved.getId());
+        return saved;
     }
 }
@@ -0,0 +1,51 @@
+// service/StaffUserDetailsService.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.repo.StaffRepository;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads logins from the {@code staff} table. Inactive staff come back disabled, so they are
+ * rejected before any password hashing. After a successful login with a legacy hash
+ * (e.g. {@code {noop}}) Spring Security calls {@link #updatePassword} with a re-encoded one;
+ * it is saved through {@link StaffService} so the identity and entity caches see the new row.
+ */
+public class StaffUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final StaffRepository staff;
+    private final StaffService staffService;
+
+    public StaffUserDetailsService(StaffRepository staff, StaffService staffService) {
+        this.staff = staff;
+        this.staffService = staffService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return staff.findByEmail(username)
+                .map(StaffUserDetailsService::toUser)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return staffService.updatePasswordHash(user.getUsername(), newPassword)
+                .map(StaffUserDetailsService::toUser)
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+    }
+
+    private static UserDetails toUser(Staff s) {
+        return User.withUsername(s.getEmail())
+                .password(s.getPasswordHash())
+                .roles(s.getRole().name())
+                .disabled(!Boolean.TRUE.equals(s.getActive()))
+                .build();
+    }
+}
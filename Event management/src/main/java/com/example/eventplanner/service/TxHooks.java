@@ -0,0 +1,25 @@
+// service/TxHooks.java
+package com.example.eventplanner.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Small helpers for work that must only happen once the current transaction commits. */
+final class TxHooks {
+
+    private TxHooks() {}
+
+    /** Runs {@code r} once the surrounding transaction commits (immediately if there is none). */
+    static void afterCommit(Runnable r) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            r.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                r.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+// service/UnreadCounters.java
+package com.example.eventplanner.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory unread notification count per recipient. Loaded once from the database,
+ * then kept current by deltas applied after commit (same generation / in-flight guard
+ * as {@link PlannerStatsCache}, so a load racing a commit is never cached).
+ *
+ * Bounded the same way as {@link PlannerStatsCache}: counts older than
+ * {@code app.cache.ttl-seconds} are reloaded, and past {@code app.cache.max-size} recipients
+ * the least recently read tenth without a change in flight is dropped.
+ */
+@Component
+public class UnreadCounters {
+
+    private static final class Entry {
+        boolean loaded;
+        long value;
+        long loadedAt;
+        long generation;
+        int inFlight;
+        volatile long readAt;
+        boolean removed;
+    }
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public UnreadCounters(@Value("${app.cache.max-size:10000}") int maxSize,
+                          @Value("${app.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+    }
+
+    public long get(Long recipientId, LongSupplier loader) {
+        if (recipientId == null) return loader.getAsLong();
+        Entry e = entry(recipientId);
+        long now = System.currentTimeMillis();
+        e.readAt = now;
+        long gen;
+        synchronized (e) {
+            if (e.loaded && now - e.loadedAt < ttlMillis) return e.value;
+            e.loaded = false;
+            gen = e.generation;
+        }
+        long loaded = loader.getAsLong();
+        synchronized (e) {
+            if (!e.removed && !e.loaded && e.inFlight == 0 && e.generation == gen) {
+                e.value = loaded;
+                e.loaded = true;
+                e.loadedAt = now;
+            }
+        }
+        return loaded;
+    }
+
+    /** Adds {@code delta} to the recipient's count; inside a transaction only if it commits. */
+    public void add(Long recipientId, long delta) {
+        if (recipientId == null || delta == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withLive(recipientId, e -> {
+                e.generation++;
+                if (e.loaded) e.value = Math.max(0, e.value + delta);
+            });
+            return;
+        }
+        Entry e = withLive(recipientId, x -> x.inFlight++);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // applied in afterCommit so later afterCommit callbacks (e.g. pushes) see the new value
+            @Override
+            public void afterCommit() {
+                synchronized (e) {
+                    e.generation++;
+                    if (e.loaded) e.value = Math.max(0, e.value + delta);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (e) {
+                    e.inFlight--;
+                    e.generation++;
+                    if (status == STATUS_UNKNOWN) e.loaded = false;
+                }
+            }
+        });
+    }
+
+    /** Number of recipients currently tracked (loaded or with a change in flight). */
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry entry(Long recipientId) {
+        Entry e = entries.get(recipientId);
+        if (e != null) return e;
+        if (entries.size() >= maxSize) trim();
+        return entries.computeIfAbsent(recipientId, id -> new Entry());
+    }
+
+    /** Runs {@code action} on the recipient's entry under its monitor; retries if a trim dropped it in between. */
+    private Entry withLive(Long recipientId, Consumer<Entry> action) {
+        while (true) {
+            Entry e = entry(recipientId);
+            synchronized (e) {
+                if (e.removed) continue;
+                action.accept(e);
+                return e;
+            }
+        }
+    }
+
+    private void trim() {
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(x -> x.getValue().readAt))
+                .limit(Math.max(1, maxSize / 10))
+                .toList()
+                .forEach(x -> {
+                    Entry e = x.getValue();
+                    synchronized (e) {
+                        if (e.inFlight > 0) return;
+                        e.removed = true;
+                        entries.remove(x.getKey(), e);
+                    }
+                });
+    }
+}
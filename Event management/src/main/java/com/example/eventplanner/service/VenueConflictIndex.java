@@ -0,0 +1,238 @@
+// service/VenueConflictIndex.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.dto.VenueConflict;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.repo.VenueSlotRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Which events hold which venue on which date, for instant double-booking checks.
+ * Only PENDING and PUBLISHED events hold a venue. Venues are compared after normalizing
+ * case, accents, punctuation and whitespace ("Grand Hall " == "grand-hall"); dates per
+ * venue are kept sorted so range checks are a sub-map lookup.
+ *
+ * Writes are applied after commit by {@link EventService}; rebuilt from the database on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VenueConflictIndex {
+
+    public static final Set<EventStatus> HOLDS_VENUE = EnumSet.of(EventStatus.PENDING, EventStatus.PUBLISHED);
+    private static final int REBUILD_BATCH = 5000;
+
+    private record Slot(String venue, LocalDate date, EventStatus status) {}
+
+    private final EventRepository events;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Slot> byEvent = new HashMap<>();
+    private final Map<String, TreeMap<LocalDate, Map<Long, EventStatus>>> byVenue = new HashMap<>();
+
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    // ===== Queries ===========================================================
+
+    /** Events other than {@code excludeId} holding {@code venue} on {@code date}. */
+    public List<VenueConflict> conflicts(String venue, LocalDate date, Long excludeId) {
+        return conflicts(venue, date, date, excludeId);
+    }
+
+    /** Events other than {@code excludeId} holding {@code venue} between the two dates (inclusive). */
+    public List<VenueConflict> conflicts(String venue, LocalDate from, LocalDate to, Long excludeId) {
+        String key = normalize(venue);
+        if (key.isEmpty() || from == null || to == null) return List.of();
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDate, Map<Long, EventStatus>> dates = byVenue.get(key);
+            if (dates == null) return List.of();
+            List<VenueConflict> out = new ArrayList<>();
+            dates.subMap(from, true, to, true).forEach((date, ids) -> ids.forEach((id, status) -> {
+                if (!id.equals(excludeId)) out.add(new VenueConflict(id, date, status));
+            }));
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Whether an indexed event shares its venue and date with another one. */
+    public boolean hasConflict(Long eventId) {
+        lock.readLock().lock();
+        try {
+            Slot s = byEvent.get(eventId);
+            if (s == null) return false;
+            Map<Long, EventStatus> ids = byVenue.get(s.venue()).get(s.date());
+            return ids.size() > 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Writes ============================================================
+
+    @EventListener
+    public void onEventsChanged(EventsChanged changes) {
+        for (EventChanged c : changes.changes()) {
+            switch (c.kind()) {
+                case CREATED, UPDATED -> putAfterCommit(c.row());
+                case DELETED -> removeAfterCommit(c.id());
+                case MOVED -> { }
+            }
+        }
+        changes.movedIdsByTo().forEach((to, ids) -> updateStatusAfterCommit(ids, to));
+    }
+
+    /** Re-indexes an event (venue, date or status may have changed) once the transaction commits. */
+    public void putAfterCommit(Event e) {
+        Long id = e.getId();
+        Slot slot = HOLDS_VENUE.contains(e.getStatus()) && e.getEventDate() != null
+                ? new Slot(normalize(e.getVenue()), e.getEventDate(), e.getStatus())
+                : null;
+        TxHooks.afterCommit(() -> write(() -> {
+            if (rebuilding) touchedDuringRebuild.add(id);
+            remove(id);
+            if (slot != null && !slot.venue().isEmpty()) add(id, slot);
+        }));
+    }
+
+    public void removeAfterCommit(Long id) {
+        TxHooks.afterCommit(() -> write(() -> {
+            if (rebuilding) touchedDuringRebuild.add(id);
+            remove(id);
+        }));
+    }
+
+    /**
+     * Status-only change of several events (transitions). Events moving into a status that
+     * holds a venue are usually not indexed yet (DRAFT/REJECTED -> PENDING): their venue and
+     * date are read now, inside the writer's transaction, and added after commit.
+     */
+    public void updateStatusAfterCommit(Collection<Long> ids, EventStatus status) {
+        List<Long> copy = List.copyOf(ids);
+        Map<Long, Slot> loaded = new HashMap<>();
+        if (HOLDS_VENUE.contains(status)) {
+            List<Long> missing = read(() -> copy.stream().filter(id -> !byEvent.containsKey(id)).toList());
+            if (!missing.isEmpty()) {
+                for (VenueSlotRow r : events.findVenueSlotsByIdIn(missing)) {
+                    String key = normalize(r.getVenue());
+                    if (!key.isEmpty() && r.getEventDate() != null) loaded.put(r.getId(), new Slot(key, r.getEventDate(), status));
+                }
+            }
+        }
+        TxHooks.afterCommit(() -> write(() -> {
+            for (Long id : copy) {
+                if (rebuilding) touchedDuringRebuild.add(id);
+                Slot s = byEvent.get(id);
+                if (s != null) {
+                    remove(id);
+                    if (HOLDS_VENUE.contains(status)) add(id, new Slot(s.venue(), s.date(), status));
+                } else if (loaded.containsKey(id)) {
+                    add(id, loaded.get(id));
+                }
+            }
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("venue-index-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception ex) {
+                log.error("Venue conflict index rebuild failed", ex);
+            }
+        });
+    }
+
+    public void rebuild() {
+        write(() -> {
+            byEvent.clear();
+            byVenue.clear();
+            touchedDuringRebuild.clear();
+            rebuilding = true;
+        });
+        long afterId = 0;
+        int count = 0;
+        try {
+            while (true) {
+                List<VenueSlotRow> rows = events.findVenueSlotsAfter(afterId, HOLDS_VENUE, PageRequest.of(0, REBUILD_BATCH));
+                if (rows.isEmpty()) break;
+                write(() -> {
+                    for (VenueSlotRow r : rows) {
+                        if (touchedDuringRebuild.contains(r.getId()) || r.getEventDate() == null) continue;
+                        String key = normalize(r.getVenue());
+                        if (!key.isEmpty()) add(r.getId(), new Slot(key, r.getEventDate(), r.getStatus()));
+                    }
+                });
+                count += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } finally {
+            write(() -> {
+                rebuilding = false;
+                touchedDuringRebuild.clear();
+            });
+        }
+        log.info("Venue conflict index built: {} events", count);
+    }
+
+    private <T> T read(Supplier<T> s) {
+        lock.readLock().lock();
+        try {
+            return s.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable r) {
+        lock.writeLock().lock();
+        try {
+            r.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long id, Slot s) {
+        byEvent.put(id, s);
+        byVenue.computeIfAbsent(s.venue(), k -> new TreeMap<>())
+                .computeIfAbsent(s.date(), k -> new HashMap<>())
+                .put(id, s.status());
+    }
+
+    private void remove(Long id) {
+        Slot s = byEvent.remove(id);
+        if (s == null) return;
+        TreeMap<LocalDate, Map<Long, EventStatus>> dates = byVenue.get(s.venue());
+        Map<Long, EventStatus> ids = dates.get(s.date());
+        ids.remove(id);
+        if (ids.isEmpty()) dates.remove(s.date());
+        if (dates.isEmpty()) byVenue.remove(s.venue());
+    }
+
+    static String normalize(String venue) {
+        if (venue == null) return "";
+        return Normalizer.normalize(venue, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+}
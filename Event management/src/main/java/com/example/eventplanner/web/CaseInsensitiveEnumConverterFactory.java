@@ -0,0 +1,27 @@
+// web/CaseInsensitiveEnumConverterFactory.java
+package com.example.eventplanner.web;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+import java.util.Locale;
+
+/**
+ * Binds request parameters to enums regardless of case ({@code ?status=pending},
+ * {@code ?format=ndjson}). Spring MVC's own String-to-enum conversion is case-sensitive.
+ * A blank value binds to null; an unknown one fails conversion, which MVC answers with 400.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CaseInsensitiveEnumConverterFactory implements ConverterFactory<String, Enum> {
+
+    @Override
+    public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+        Class<?> type = targetType;
+        while (type != null && !type.isEnum()) type = type.getSuperclass();   // constant-specific bodies
+        Class enumType = type;
+        return source -> {
+            String value = source.trim();
+            return value.isEmpty() ? null : (T) Enum.valueOf(enumType, value.toUpperCase(Locale.ROOT));
+        };
+    }
+}
@@ -0,0 +1,128 @@
+// web/ConcurrentModel.java
+package com.example.eventplanner.web;
+
+import com.example.eventplanner.config.SqlStatementCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Fetches independent pieces of a page model at the same time, one virtual thread each,
+ * so a page costs about its slowest query instead of the sum of all of them.
+ *
+ * Each fork may hold a pooled connection, and virtual threads give no thread-pool
+ * back-pressure, so forks in flight across all requests are capped by
+ * {@code app.web.model-max-forks} (default: the Hikari pool size). A fork that finds no
+ * free permit runs inline on the request thread, which already holds its own connection.
+ *
+ * Structured like a task scope: forks live inside a try-with-resources {@link Tasks},
+ * share one deadline ({@code app.web.model-timeout-ms}) and are cancelled on close.
+ * Side pieces can fall back to a default; the page's main piece fails the request.
+ * With {@code app.web.parallel-model=false} every fork runs inline on the request thread
+ * (the old serial path), for comparing latency through {@code http_server_requests_seconds}.
+ */
+@Slf4j
+@Component
+public class ConcurrentModel {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    @Value("${app.web.parallel-model:true}")
+    private boolean parallel;
+
+    @Value("${app.web.model-timeout-ms:2000}")
+    private long timeoutMs;
+
+    public ConcurrentModel(@Value("${app.web.model-max-forks:${spring.datasource.hikari.maximum-pool-size:10}}") int maxForks) {
+        this.permits = new Semaphore(Math.max(1, maxForks));
+    }
+
+    public Tasks start() {
+        return new Tasks(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public final class Tasks implements AutoCloseable {
+        private final long deadline;
+        private final List<Future<?>> forks = new ArrayList<>();
+
+        private Tasks(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public <T> Future<T> fork(Callable<T> task) {
+            Future<T> f;
+            if (parallel && permits.tryAcquire()) {
+                Callable<T> counted = SqlStatementCounter.propagating(task);
+                try {
+                    f = executor.submit(() -> {
+                        try {
+                            return counted.call();
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException ex) {
+                    permits.release();
+                    throw ex;
+                }
+            } else {
+                FutureTask<T> inline = new FutureTask<>(task);
+                inline.run();
+                f = inline;
+            }
+            forks.add(f);
+            return f;
+        }
+
+        /** Result of a required piece; its failure (or the deadline) cancels the rest and fails the page. */
+        public <T> T get(Future<T> f) {
+            try {
+                return await(f);
+            } catch (RuntimeException ex) {
+                close();
+                throw ex;
+            }
+        }
+
+        /** Result of an optional piece, or {@code fallback} when it failed or missed the deadline. */
+        public <T> T getOr(Future<T> f, T fallback, String what) {
+            try {
+                return await(f);
+            } catch (RuntimeException ex) {
+                f.cancel(true);
+                log.warn("Page model piece '{}' unavailable: {}", what, ex.toString());
+                return fallback;
+            }
+        }
+
+        private <T> T await(Future<T> f) {
+            try {
+                return f.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException re) throw re;
+                throw new IllegalStateException(ex.getCause());
+            } catch (TimeoutException ex) {
+                throw new IllegalStateException("Page model not ready within " + timeoutMs + " ms");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Future<?> f : forks) f.cancel(true);
+        }
+    }
+}
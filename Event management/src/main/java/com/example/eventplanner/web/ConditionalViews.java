@@ -0,0 +1,43 @@
+// web/ConditionalViews.java
+package com.example.eventplanner.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Conditional GETs for rendered pages. The ETag combines a data version with the signed-in
+ * user (/planner renders a different page per user, and versions of different staff can be
+ * equal) and the full URL, so one version can back many views. A new session of the same
+ * user still gets its 304.
+ * Handlers return {@code null} when {@link #notModified} is true; Spring then sends the 304.
+ */
+public final class ConditionalViews {
+
+    private ConditionalViews() {}
+
+    public static boolean notModified(ServletWebRequest request, String version) {
+        return notModified(request, version, -1);
+    }
+
+    /** @param lastModified epoch millis, or -1 when the view has no single timestamp */
+    public static boolean notModified(ServletWebRequest request, String version, long lastModified) {
+        HttpServletRequest http = request.getRequest();
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(http);
+        if (flash != null && !flash.isEmpty()) return false;     // one-off messages, render fresh
+
+        if (request.getResponse() != null) {
+            // revalidate every time; Spring Security leaves an explicit Cache-Control alone
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        String query = http.getQueryString();
+        String key = version + "|" + http.getRemoteUser() + "|" + http.getRequestURI() + (query != null ? "?" + query : "");
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+        return lastModified < 0 ? request.checkNotModified(etag) : request.checkNotModified(etag, lastModified);
+    }
+}
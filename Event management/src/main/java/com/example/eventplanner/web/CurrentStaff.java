@@ -0,0 +1,11 @@
+// web/CurrentStaff.java
+package com.example.eventplanner.web;
+
+import java.lang.annotation.*;
+
+/** Injects the logged-in {@link com.example.eventplanner.domain.Staff} into a controller method. */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentStaff {
+}
@@ -0,0 +1,30 @@
+// web/CurrentStaffArgumentResolver.java
+package com.example.eventplanner.web;
+
+import com.example.eventplanner.domain.Staff;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/** Resolves {@code @CurrentStaff Staff} parameters through {@link CurrentUser}. */
+@Component @RequiredArgsConstructor
+public class CurrentStaffArgumentResolver implements HandlerMethodArgumentResolver {
+    private final CurrentUser currentUser;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentStaff.class)
+                && Staff.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return currentUser.resolve(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
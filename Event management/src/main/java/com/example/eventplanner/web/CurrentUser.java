@@ -2,9 +2,9 @@
 package com.example.eventplanner.web;
 
 import com.example.eventplanner.domain.Staff;
-import com.example.eventplanner.domain.enums.Role;
 import com.example.eventplanner.service.StaffService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
@@ -12,14 +12,11 @@ import org.springframework.stereotype.Component;
 public class CurrentUser {
     private final StaffService staffService;
 
-    // For demo, if user not present in DB we create an in-memory Staff object.
+    // Lookups go through the identity cache, so most requests do not touch the DB.
+    // A principal without a staff row (deleted since login) is refused rather than guessed.
     public Staff resolve(Authentication auth){
         var email = auth.getName();
-        try { return staffService.byEmail(email); }
-        catch(Exception e){
-            Staff s = new Staff();
-            s.setId(1L); s.setEmail(email); s.setName("Event Planner"); s.setRole(Role.PLANNER); s.setActive(true);
-            return s;
-        }
+        return staffService.findCachedByEmail(email)
+                .orElseThrow(() -> new AccessDeniedException("No staff account for " + email));
     }
 }
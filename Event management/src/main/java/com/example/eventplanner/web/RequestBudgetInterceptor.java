@@ -0,0 +1,129 @@
+// web/RequestBudgetInterceptor.java
+package com.example.eventplanner.web;
+
+import com.example.eventplanner.config.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements per request ({@code http.server.sql.statements}); latency is Boot's own
+ * {@code http.server.requests}. Endpoints are labelled by their mapping pattern
+ * ("/planner/event/{id}"), not the raw path. Requests issuing more than
+ * {@code app.metrics.sql-warn-threshold} statements are logged.
+ *
+ * Budgets: {@code app.metrics.request-budgets} caps statements and allocated bytes for
+ * individual endpoints, e.g. {@code "GET /planner=8:16m; GET /admin=10:32m"}. An endpoint
+ * that goes over (say, a list turning into N+1 queries) is logged and counted in
+ * {@code http.server.budget.exceeded}; the response is never changed. The build-time
+ * guard for the same endpoints is {@code EndpointBudgetTest}.
+ */
+@Slf4j
+@Component
+public class RequestBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String ALLOCATED = RequestBudgetInterceptor.class.getName() + ".allocated";
+
+    private record Budget(long statements, long bytes) {}
+
+    private final MeterRegistry registry;
+    private final long sqlWarnThreshold;
+    private final Map<String, Budget> budgets;
+    private final com.sun.management.ThreadMXBean threads;
+
+    public RequestBudgetInterceptor(MeterRegistry registry,
+                                     @Value("${app.metrics.sql-warn-threshold:20}") long sqlWarnThreshold,
+                                     @Value("${app.metrics.request-budgets:GET /planner=4:8m; GET /planner/events=8:16m; "
+                                             + "GET /planner/event/{id}=8:16m; GET /admin=10:32m; "
+                                             + "GET /admin/staff/{id}/details=4:4m}") String budgets,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.registry = registry;
+        this.sqlWarnThreshold = sqlWarnThreshold;
+        this.budgets = parseBudgets(budgets);
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t
+                && t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled() ? t : null;
+        if (virtualThreads && !this.budgets.isEmpty()) {
+            log.warn("spring.threads.virtual.enabled=true: request allocation is not measurable on virtual threads, "
+                    + "only statement budgets are checked");
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(ALLOCATED, allocatedBytes());
+        SqlStatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ALLOCATED) == null) return;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+        long statements = SqlStatementCounter.current();
+
+        Counter.builder("http.server.sql.statements").description("SQL statements issued by requests")
+                .tags("method", request.getMethod(), "uri", uri).register(registry).increment(statements);
+        if (statements > sqlWarnThreshold) {
+            log.warn("{} {} issued {} SQL statements (threshold {})", request.getMethod(), uri, statements, sqlWarnThreshold);
+        }
+
+        Budget budget = budgets.get(request.getMethod() + " " + uri);
+        if (budget != null) checkBudget(request, uri, budget, statements);
+    }
+
+    private void checkBudget(HttpServletRequest request, String uri, Budget budget, long statements) {
+        long before = request.getAttribute(ALLOCATED) instanceof Long b ? b : -1;
+        long after = allocatedBytes();
+        long allocated = before < 0 || after < 0 ? -1 : after - before;   // unknown on virtual threads
+
+        boolean overStatements = statements > budget.statements();
+        boolean overBytes = allocated > budget.bytes();
+        if (!overStatements && !overBytes) return;
+
+        if (overStatements) exceeded(request, uri, "statements");
+        if (overBytes) exceeded(request, uri, "allocation");
+        log.warn("{} {} over budget: {} statements (max {}), {} bytes allocated (max {})",
+                request.getMethod(), uri, statements, budget.statements(), allocated, budget.bytes());
+    }
+
+    private void exceeded(HttpServletRequest request, String uri, String kind) {
+        Counter.builder("http.server.budget.exceeded").description("Requests over their budget")
+                .tags("method", request.getMethod(), "uri", uri, "kind", kind).register(registry).increment();
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /** "METHOD pattern=statements:bytes" entries separated by ';'; bytes take k/m/g suffixes. */
+    static Map<String, Budget> parseBudgets(String spec) {
+        Map<String, Budget> out = new HashMap<>();
+        if (spec == null) return out;
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) continue;
+            int eq = entry.lastIndexOf('=');
+            int colon = entry.lastIndexOf(':');
+            if (eq < 0 || colon < eq) throw new IllegalArgumentException("Bad request budget: " + entry.trim());
+            out.put(entry.substring(0, eq).trim(), new Budget(
+                    Long.parseLong(entry.substring(eq + 1, colon).trim()), bytes(entry.substring(colon + 1).trim())));
+        }
+        return out;
+    }
+
+    private static long bytes(String v) {
+        String s = v.toLowerCase();
+        long unit = s.endsWith("g") ? 1L << 30 : s.endsWith("m") ? 1L << 20 : s.endsWith("k") ? 1L << 10 : 1;
+        return Long.parseLong(unit == 1 ? s : s.substring(0, s.length() - 1)) * unit;
+    }
+}
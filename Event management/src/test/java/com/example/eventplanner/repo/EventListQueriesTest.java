@@ -0,0 +1,126 @@
+// repo/EventListQueriesTest.java
+package com.example.eventplanner.repo;
+
+import com.example.eventplanner.config.SqlStatementCounter;
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.domain.enums.Role;
+import com.example.eventplanner.dto.EventListItem;
+import com.example.eventplanner.service.EventService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List views read {@link EventListItem} projections with the planner name joined in, so the
+ * statement count does not grow with the number of rows: no {@code Event.planner} proxy is
+ * initialised per row.
+ */
+@SpringBootTest
+@ActiveProfiles("budget")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventListQueriesTest {
+
+    private static final int PLANNERS = 3;
+    private static final int EVENTS_PER_PLANNER = 20;
+
+    @Autowired EventRepository events;
+    @Autowired StaffRepository staff;
+    @Autowired EventService eventService;
+
+    private Staff planner;
+    private final List<Long> plannerEventIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        EventStatus[] statuses = EventStatus.values();
+        for (int p = 0; p < PLANNERS; p++) {
+            Staff s = new Staff();
+            s.setEmail("lists" + p + "-" + System.nanoTime() + "@lists.test");
+            s.setName("Lists planner " + p);
+            s.setPasswordHash("{noop}secret");
+            s.setRole(Role.PLANNER);
+            s.setActive(true);
+            s = staff.save(s);
+            List<Event> batch = new ArrayList<>();
+            for (int i = 0; i < EVENTS_PER_PLANNER; i++) {
+                Event e = new Event();
+                e.setPlanner(s);
+                e.setTitle("List event " + p + "-" + i);
+                e.setEventDate(LocalDate.now().plusDays(i));
+                e.setVenue("List room " + i);
+                e.setCategory(EventCategory.values()[i % EventCategory.values().length]);
+                e.setDescription("List event");
+                e.setStatus(statuses[i % statuses.length]);
+                batch.add(e);
+            }
+            events.saveAll(batch);
+            if (p == 0) {
+                planner = s;
+                batch.forEach(e -> plannerEventIds.add(e.getId()));
+            }
+        }
+    }
+
+    @BeforeEach
+    void resetCounter() {
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void plannerListIsOneStatement() {
+        List<EventListItem> rows = events.findListItemsByPlanner(planner, Pageable.unpaged());
+
+        assertThat(rows).hasSize(EVENTS_PER_PLANNER).allSatisfy(r -> assertThat(r.getPlanner().getName()).isEqualTo(planner.getName()));
+        assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+
+    @Test
+    void plannerFilterIsOneStatement() {
+        List<EventListItem> rows = events.filter(planner, null, null, null);
+
+        assertThat(rows).hasSize(EVENTS_PER_PLANNER);
+        assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+
+    @Test
+    void searchHitsLoadInOneStatement() {
+        List<EventListItem> rows = events.findListItemsByIdIn(plannerEventIds);
+
+        assertThat(rows).hasSize(EVENTS_PER_PLANNER);
+        assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+
+    @Test
+    void adminPageIsRowsPlusCount() {
+        Page<EventListItem> page = eventService.search(null, null, null, null, null,
+                PageRequest.of(0, 2 * EVENTS_PER_PLANNER, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(2 * EVENTS_PER_PLANNER);
+        assertThat(SqlStatementCounter.current()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void statusPageIsRowsPlusCount() {
+        Page<EventListItem> page = events.findListItemsByStatus(EventStatus.PUBLISHED, PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).isNotEmpty();
+        assertThat(SqlStatementCounter.current()).isLessThanOrEqualTo(2);
+    }
+}
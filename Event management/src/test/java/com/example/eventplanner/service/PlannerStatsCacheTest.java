@@ -0,0 +1,105 @@
+// service/PlannerStatsCacheTest.java
+package com.example.eventplanner.service;
+
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.domain.enums.Role;
+import com.example.eventplanner.dto.EventForm;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.repo.StaffRepository;
+import com.example.eventplanner.repo.StatusCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The cached dashboard counters must always equal a fresh GROUP BY over the planner's
+ * events. Every step commits on its own, so the after-commit deltas are what is checked.
+ */
+@SpringBootTest
+@ActiveProfiles("budget")
+class PlannerStatsCacheTest {
+
+    @Autowired EventService eventService;
+    @Autowired EventRepository events;
+    @Autowired StaffRepository staff;
+
+    @Test
+    void cachedStatsMatchGroupByThroughTheLifecycle() {
+        Staff planner = staff.save(planner("stats-" + System.nanoTime() + "@stats.test"));
+        assertStatsMatch(planner);      // loads and caches the (empty) counts
+
+        Event approved = eventService.createAsDraft(planner, form("Approved"));
+        assertStatsMatch(planner);
+        Event rejected = eventService.createAsDraft(planner, form("Rejected"));
+        Event submitted = eventService.createAndSubmit(planner, form("Submitted"));
+        assertStatsMatch(planner);
+
+        assertThat(eventService.submitForApproval(planner, approved.getId()).isApplied()).isTrue();
+        assertThat(eventService.submitForApproval(planner, rejected.getId()).isApplied()).isTrue();
+        assertStatsMatch(planner);
+
+        assertThat(eventService.approve(approved.getId(), "ok").isApplied()).isTrue();
+        assertStatsMatch(planner);
+
+        assertThat(eventService.reject(rejected.getId(), "no").isApplied()).isTrue();
+        assertStatsMatch(planner);
+
+        eventService.deleteEvent(planner, approved.getId());
+        assertStatsMatch(planner);
+        eventService.deleteEvent(planner, submitted.getId());
+        assertStatsMatch(planner);
+
+        assertThat(eventService.statsFor(planner))
+                .containsEntry("rejectedEvents", 1L)
+                .containsEntry("totalEvents", 1L);
+    }
+
+    @Test
+    void entriesAreCappedAtMaxSize() {
+        PlannerStatsCache cache = new PlannerStatsCache(10, 300);
+        for (long id = 1; id <= 100; id++) cache.get(id, PlannerStatsCache::empty);
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+
+    private void assertStatsMatch(Staff planner) {
+        Map<String, Long> expected = new HashMap<>();
+        long total = 0;
+        for (EventStatus s : EventStatus.values()) expected.put(s.name().toLowerCase() + "Events", 0L);
+        for (StatusCount c : events.countByStatusForPlanner(planner.getId())) {
+            expected.put(c.getStatus().name().toLowerCase() + "Events", c.getTotal());
+            total += c.getTotal();
+        }
+        expected.put("totalEvents", total);
+        assertThat(eventService.statsFor(planner)).isEqualTo(expected);
+    }
+
+    private static Staff planner(String email) {
+        Staff s = new Staff();
+        s.setEmail(email);
+        s.setName("Stats planner");
+        s.setPasswordHash("{noop}secret");
+        s.setRole(Role.PLANNER);
+        s.setActive(true);
+        return s;
+    }
+
+    private static EventForm form(String title) {
+        EventForm f = new EventForm();
+        f.setTitle(title);
+        f.setEventDate(LocalDate.now().plusDays(30));
+        f.setVenue("Stats room " + title);
+        f.setCategory(EventCategory.values()[0]);
+        f.setDescription(title + " event");
+        return f;
+    }
+}
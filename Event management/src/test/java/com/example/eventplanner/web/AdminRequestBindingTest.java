@@ -0,0 +1,59 @@
+// web/AdminRequestBindingTest.java
+package com.example.eventplanner.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Enum request parameters on the admin pages bind case-insensitively; unknown values are a 400. */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("budget")
+class AdminRequestBindingTest {
+
+    @Autowired MockMvc mvc;
+
+    @Test
+    void exportDefaultsToCsv() throws Exception {
+        mvc.perform(asAdmin(get("/admin/events/export")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"));
+    }
+
+    @Test
+    void exportFormatAndStatusIgnoreCase() throws Exception {
+        mvc.perform(asAdmin(get("/admin/events/export").param("format", "ndjson").param("status", "published")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+    }
+
+    @Test
+    void exportRejectsUnknownFormat() throws Exception {
+        mvc.perform(asAdmin(get("/admin/events/export").param("format", "xlsx")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void dashboardStatusIgnoresCase() throws Exception {
+        mvc.perform(asAdmin(get("/admin").param("status", "pending"))).andExpect(status().isOk());
+        mvc.perform(asAdmin(get("/admin/events").param("status", "Published"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void dashboardRejectsUnknownStatus() throws Exception {
+        mvc.perform(asAdmin(get("/admin").param("status", "pendng"))).andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequestBuilder asAdmin(MockHttpServletRequestBuilder request) {
+        return request.with(user("admin@binding.test").roles("ADMIN"));
+    }
+}
@@ -0,0 +1,177 @@
+// web/EndpointBudgetTest.java
+package com.example.eventplanner.web;
+
+import com.example.eventplanner.config.SqlStatementCounter;
+import com.example.eventplanner.domain.Event;
+import com.example.eventplanner.domain.Notification;
+import com.example.eventplanner.domain.Staff;
+import com.example.eventplanner.domain.enums.EventCategory;
+import com.example.eventplanner.domain.enums.EventStatus;
+import com.example.eventplanner.domain.enums.Role;
+import com.example.eventplanner.repo.EventRepository;
+import com.example.eventplanner.repo.NotificationRepository;
+import com.example.eventplanner.repo.StaffRepository;
+import com.example.eventplanner.service.EventSearchIndex;
+import com.example.eventplanner.service.PlannerDashboardService;
+import com.example.eventplanner.service.VenueConflictIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement and allocation budgets per page, checked against a seeded embedded database.
+ * Every statement goes through the counting DataSource wrapper ({@code MetricsConfig});
+ * allocation is this thread's, measured around the request. Budgets are fixed while the
+ * seed holds hundreds of events per planner, so a page that turns O(1) into O(N) fails here.
+ *
+ * Each endpoint is requested once to warm the caches that are part of its design (identity,
+ * staff list, pending queue), then measured on the second request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("budget")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointBudgetTest {
+
+    private static final int PLANNERS = 20;
+    private static final int EVENTS_PER_PLANNER = 250;
+    private static final int NOTIFICATIONS_PER_PLANNER = 40;
+    private static final long MB = 1L << 20;
+
+    @Autowired MockMvc mvc;
+    @Autowired StaffRepository staff;
+    @Autowired EventRepository events;
+    @Autowired NotificationRepository notifications;
+    @Autowired PlannerDashboardService dashboards;
+    @Autowired EventSearchIndex searchIndex;
+    @Autowired VenueConflictIndex venueIndex;
+
+    private Staff planner;
+    private Event plannerEvent;
+
+    @BeforeAll
+    void seed() {
+        staff.save(staff("admin@budget.test", Role.ADMIN));
+        EventStatus[] statuses = EventStatus.values();
+        EventCategory[] categories = EventCategory.values();
+        for (int p = 0; p < PLANNERS; p++) {
+            Staff s = staff.save(staff("planner" + p + "@budget.test", Role.PLANNER));
+            List<Event> batch = new ArrayList<>(EVENTS_PER_PLANNER);
+            for (int i = 0; i < EVENTS_PER_PLANNER; i++) {
+                Event e = new Event();
+                e.setPlanner(s);
+                e.setTitle("Event " + p + "-" + i);
+                e.setEventDate(LocalDate.now().plusDays(i % 120 - 30));
+                e.setVenue("Hall " + (i % 15));
+                e.setCategory(categories[i % categories.length]);
+                e.setDescription("x".repeat(1500));
+                e.setStatus(statuses[i % statuses.length]);
+                batch.add(e);
+            }
+            events.saveAll(batch);
+            List<Notification> inbox = new ArrayList<>(NOTIFICATIONS_PER_PLANNER);
+            for (int i = 0; i < NOTIFICATIONS_PER_PLANNER; i++) {
+                Notification n = new Notification();
+                n.setRecipient(s);
+                n.setTitle("Notice " + i);
+                n.setMessage("Message " + i);
+                n.setType("INFO");
+                n.setReadFlag(i % 3 == 0);
+                inbox.add(n);
+            }
+            notifications.saveAll(inbox);
+            if (p == 0) {
+                planner = s;
+                plannerEvent = batch.get(0);
+            }
+        }
+        // seeded behind the services' backs: bring the derived structures up to date
+        searchIndex.rebuild();
+        venueIndex.rebuild();
+        dashboards.rebuildAll();
+    }
+
+    private static Staff staff(String email, Role role) {
+        Staff s = new Staff();
+        s.setEmail(email);
+        s.setName(email.substring(0, email.indexOf('@')));
+        s.setPasswordHash("{noop}secret");
+        s.setRole(role);
+        s.setActive(true);
+        return s;
+    }
+
+    @Test
+    void plannerDashboard() throws Exception {
+        assertWithinBudget(asPlanner(get("/planner")), 4, 8 * MB);
+    }
+
+    @Test
+    void plannerEvents() throws Exception {
+        assertWithinBudget(asPlanner(get("/planner/events")), 8, 16 * MB);
+    }
+
+    @Test
+    void plannerEventView() throws Exception {
+        assertWithinBudget(asPlanner(get("/planner/event/{id}", plannerEvent.getId())), 8, 16 * MB);
+    }
+
+    @Test
+    void adminDashboard() throws Exception {
+        assertWithinBudget(asAdmin(get("/admin")), 10, 32 * MB);
+    }
+
+    /** The filter form's action: the same dashboard behind {@code /admin/events}. */
+    @Test
+    void adminEvents() throws Exception {
+        assertWithinBudget(asAdmin(get("/admin/events").param("status", "PUBLISHED").param("page", "1")), 10, 32 * MB);
+    }
+
+    @Test
+    void adminStaffDetails() throws Exception {
+        assertWithinBudget(asAdmin(get("/admin/staff/{id}/details", planner.getId())), 4, 4 * MB);
+    }
+
+    private MockHttpServletRequestBuilder asPlanner(MockHttpServletRequestBuilder request) {
+        return request.with(user(planner.getEmail()).roles("PLANNER"));
+    }
+
+    private static MockHttpServletRequestBuilder asAdmin(MockHttpServletRequestBuilder request) {
+        return request.with(user("admin@budget.test").roles("ADMIN"));
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, long maxStatements, long maxBytes) throws Exception {
+        mvc.perform(request).andExpect(status().isOk());
+
+        long before = allocatedBytes();
+        mvc.perform(request).andExpect(status().isOk());
+        long allocated = allocatedBytes() - before;
+        long statements = SqlStatementCounter.current();    // reset by RequestBudgetInterceptor.preHandle
+
+        String endpoint = request.buildRequest(new MockServletContext()).getRequestURI();
+        assertThat(statements).as("SQL statements for %s", endpoint).isLessThanOrEqualTo(maxStatements);
+        assertThat(allocated).as("bytes allocated for %s", endpoint).isLessThanOrEqualTo(maxBytes);
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+}